@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.TailOf;
+import org.cactoos.scalar.LengthOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of byte I/O: {@link BytesOf} (backed by
+ * {@link org.cactoos.bytes.InputAsBytes}), {@link LengthOf} and
+ * {@link TailOf}, in memory and on a file.
+ *
+ * <p>The class is not final, since JMH extends it.</p>
+ *
+ * @since 0.53
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ByteIoBenchmark {
+
+    /**
+     * Number of bytes in the source.
+     */
+    @Param({"1024", "1048576"})
+    public int size;
+
+    /**
+     * Source bytes.
+     */
+    private byte[] bytes;
+
+    /**
+     * Source file.
+     */
+    private Path file;
+
+    /**
+     * Prepare the source.
+     * @throws IOException If fails
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.bytes = new byte[this.size];
+        new Random(0L).nextBytes(this.bytes);
+        this.file = Files.createTempFile("cactoos-jmh", ".bin");
+        Files.write(this.file, this.bytes);
+    }
+
+    /**
+     * Delete the source file.
+     * @throws IOException If fails
+     */
+    @TearDown
+    public void cleanup() throws IOException {
+        Files.delete(this.file);
+    }
+
+    /**
+     * Read bytes from memory.
+     * @return Bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] memoryBytes() throws Exception {
+        return new BytesOf(new InputOf(this.bytes)).asBytes();
+    }
+
+    /**
+     * Read bytes from a file.
+     * @return Bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] fileBytes() throws Exception {
+        return new BytesOf(new InputOf(this.file)).asBytes();
+    }
+
+    /**
+     * Length of a file.
+     * @return Length
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public long fileLength() throws Exception {
+        return new LengthOf(new InputOf(this.file)).value();
+    }
+
+    /**
+     * Last bytes of a file.
+     * @return Bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] fileTail() throws Exception {
+        return new BytesOf(new TailOf(new InputOf(this.file), 64)).asBytes();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.SolidFunc;
+import org.cactoos.func.StickyFunc;
+import org.cactoos.scalar.Solid;
+import org.cactoos.scalar.Sticky;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of caching decorators: {@link Sticky}, {@link Solid},
+ * {@link StickyFunc} and {@link SolidFunc}.
+ *
+ * <p>The class is not final, since JMH extends it.</p>
+ *
+ * @since 0.53
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CachingScalarsBenchmark {
+
+    /**
+     * Sticky scalar.
+     */
+    private Scalar<Integer> sticky;
+
+    /**
+     * Solid scalar.
+     */
+    private Scalar<Integer> solid;
+
+    /**
+     * Bounded sticky func.
+     */
+    private Func<Integer, Integer> bounded;
+
+    /**
+     * Solid func.
+     */
+    private Func<Integer, Integer> shared;
+
+    /**
+     * Counter of calls, to walk through keys.
+     */
+    private int calls;
+
+    /**
+     * Prepare the caches.
+     */
+    @Setup
+    public void setup() {
+        this.sticky = new Sticky<>(() -> 42);
+        this.solid = new Solid<>(() -> 42);
+        this.bounded = new StickyFunc<>(key -> key * 2, 64);
+        this.shared = new SolidFunc<>(key -> key * 2);
+    }
+
+    /**
+     * Hit of a sticky scalar.
+     * @return Value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer stickyHit() throws Exception {
+        return this.sticky.value();
+    }
+
+    /**
+     * Hit of a solid scalar.
+     * @return Value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer solidHit() throws Exception {
+        return this.solid.value();
+    }
+
+    /**
+     * Bounded sticky func, with hits and evictions.
+     * @return Value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer stickyFunc() throws Exception {
+        this.calls += 1;
+        return this.bounded.apply(this.calls & 127);
+    }
+
+    /**
+     * Solid func hit from many threads.
+     * @return Value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    @Threads(8)
+    public Integer solidFuncContended() throws Exception {
+        return this.shared.apply(7);
+    }
+}
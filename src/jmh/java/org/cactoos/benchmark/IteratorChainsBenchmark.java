@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmark;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterator.Filtered;
+import org.cactoos.iterator.Mapped;
+import org.cactoos.list.ListOf;
+import org.cactoos.scalar.LengthOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of iterator chains: {@link Mapped} and {@link Filtered}.
+ *
+ * <p>The class is not final, since JMH extends it.</p>
+ *
+ * @since 0.53
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IteratorChainsBenchmark {
+
+    /**
+     * Number of items in the source.
+     */
+    @Param({"100", "10000"})
+    public int size;
+
+    /**
+     * Source of items.
+     */
+    private Iterable<Integer> source;
+
+    /**
+     * Prepare the source.
+     */
+    @Setup
+    public void setup() {
+        final Integer[] items = new Integer[this.size];
+        for (int idx = 0; idx < items.length; ++idx) {
+            items[idx] = idx;
+        }
+        this.source = new ListOf<>(items);
+    }
+
+    /**
+     * Single mapping.
+     * @return Sum of mapped items
+     */
+    @Benchmark
+    public long mapped() {
+        final Iterator<Integer> items = new Mapped<>(
+            item -> item * 2,
+            this.source.iterator()
+        );
+        long sum = 0L;
+        while (items.hasNext()) {
+            sum += items.next();
+        }
+        return sum;
+    }
+
+    /**
+     * Single filtering.
+     * @return Sum of filtered items
+     */
+    @Benchmark
+    public long filtered() {
+        final Iterator<Integer> items = new Filtered<>(
+            item -> item % 2 == 0,
+            this.source.iterator()
+        );
+        long sum = 0L;
+        while (items.hasNext()) {
+            sum += items.next();
+        }
+        return sum;
+    }
+
+    /**
+     * Chain of filtering and mapping, counted with {@link LengthOf}.
+     * @return Number of items
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public long chained() throws Exception {
+        return new LengthOf(
+            new IterableOf<>(
+                () -> new Mapped<>(
+                    item -> item + 1,
+                    new Filtered<>(
+                        item -> item % 3 != 0,
+                        new Mapped<>(
+                            item -> item * 2,
+                            this.source.iterator()
+                        )
+                    )
+                )
+            )
+        ).value();
+    }
+}
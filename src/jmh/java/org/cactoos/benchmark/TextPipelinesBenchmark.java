@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Text;
+import org.cactoos.scalar.LengthOf;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.Lowered;
+import org.cactoos.text.Normalized;
+import org.cactoos.text.Replaced;
+import org.cactoos.text.Split;
+import org.cactoos.text.TextOf;
+import org.cactoos.text.Trimmed;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of text pipelines: {@link Replaced}, {@link Normalized},
+ * {@link Split} and {@link FormattedText}.
+ *
+ * <p>The class is not final, since JMH extends it.</p>
+ *
+ * @since 0.53
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextPipelinesBenchmark {
+
+    /**
+     * Number of words in the source.
+     */
+    @Param({"10", "1000"})
+    public int words;
+
+    /**
+     * Source text.
+     */
+    private String source;
+
+    /**
+     * Prepare the source.
+     */
+    @Setup
+    public void setup() {
+        final StringBuilder text = new StringBuilder(this.words * 8);
+        for (int idx = 0; idx < this.words; ++idx) {
+            text.append("  Word").append(idx).append(" \t");
+        }
+        this.source = text.toString();
+    }
+
+    /**
+     * Regular expression replacement.
+     * @return Result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String replaced() throws Exception {
+        return new Replaced(
+            new TextOf(this.source), "Word", "term"
+        ).asString();
+    }
+
+    /**
+     * Chain of decorators.
+     * @return Result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String pipeline() throws Exception {
+        final Text text = new Trimmed(
+            new Lowered(
+                new Normalized(this.source)
+            )
+        );
+        return text.asString();
+    }
+
+    /**
+     * Splitting into tokens.
+     * @return Number of tokens
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public long split() throws Exception {
+        return new LengthOf(new Split(this.source, "\\s+")).value();
+    }
+
+    /**
+     * Formatting.
+     * @return Result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String formatted() throws Exception {
+        return new FormattedText(
+            "%s has %d words", this.source, this.words
+        ).asString();
+    }
+}
@@ -29,10 +29,15 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
+import org.cactoos.io.ByteBufferInputStream;
 
 /**
  * Digest Envelope.
  *
+ * <p>If the stream of the input is a {@link ByteBufferInputStream}, like
+ * the one of {@link org.cactoos.io.MappedInputOf}, the digest is
+ * updated right from its buffer.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.29
@@ -87,13 +92,17 @@ public abstract class DigestEnvelope implements Bytes {
     public byte[] asBytes() throws Exception {
         try (InputStream stream = this.source.stream()) {
             final MessageDigest msg = MessageDigest.getInstance(this.algorithm);
-            final byte[] buf = new byte[this.size];
-            while (true) {
-                final int len = stream.read(buf);
-                if (len < 0) {
-                    break;
+            if (stream instanceof ByteBufferInputStream) {
+                msg.update(((ByteBufferInputStream) stream).buffer());
+            } else {
+                final byte[] buf = new byte[this.size];
+                while (true) {
+                    final int len = stream.read(buf);
+                    if (len < 0) {
+                        break;
+                    }
+                    msg.update(buf, 0, len);
                 }
-                msg.update(buf, 0, len);
             }
             return msg.digest();
         } catch (final NoSuchAlgorithmException ex) {
@@ -25,16 +25,20 @@ package org.cactoos.bytes;
 
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import org.cactoos.Bytes;
 import org.cactoos.Input;
-import org.cactoos.io.OutputTo;
-import org.cactoos.io.TeeInput;
+import org.cactoos.io.ByteBufferInputStream;
 
 /**
  * Input as Byte Array.
  *
  * <p>This class is for internal use only. Use {@link BytesOf} instead.</p>
  *
+ * <p>If the stream of the input is a {@link ByteBufferInputStream}, like
+ * the one of {@link org.cactoos.io.MappedInputOf}, its bytes are copied
+ * at once into an array of the right size.</p>
+ *
  * <p>There is no thread-safety guarantee.
  * @since 0.1
  */
@@ -71,18 +75,35 @@ public final class InputAsBytes implements Bytes {
 
     @Override
     public byte[] asBytes() throws Exception {
-        try (
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            InputStream stream = new TeeInput(
-                this.source,
-                new OutputTo(baos)
-            ).stream()
-        ) {
+        final byte[] bytes;
+        try (InputStream stream = this.source.stream()) {
+            if (stream instanceof ByteBufferInputStream) {
+                final ByteBuffer buf =
+                    ((ByteBufferInputStream) stream).buffer();
+                bytes = new byte[buf.remaining()];
+                buf.get(bytes);
+            } else {
+                bytes = this.copied(stream);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Copy the stream through a buffer.
+     * @param stream The stream
+     * @return All its bytes
+     * @throws Exception If fails
+     */
+    private byte[] copied(final InputStream stream) throws Exception {
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
             final byte[] buf = new byte[this.size];
             while (true) {
-                if (stream.read(buf) < 0) {
+                final int len = stream.read(buf);
+                if (len < 0) {
                     break;
                 }
+                baos.write(buf, 0, len);
             }
             return baos.toByteArray();
         }
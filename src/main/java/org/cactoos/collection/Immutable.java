@@ -25,10 +25,16 @@ package org.cactoos.collection;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Spliterator;
+import org.cactoos.iterator.ImmutableSpliterator;
 
 /**
  * Decorator that doesn't allow any mutation of the wrapped {@link Collection}.
  *
+ * <p>It is a view, the wrapped collection is never copied. Its
+ * {@link Spliterator} is {@link Spliterator#IMMUTABLE} and keeps
+ * all other characteristics of the wrapped collection.</p>
+ *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @param <X> Type of source item
@@ -73,6 +79,11 @@ public final class Immutable<X> implements Collection<X> {
         return new org.cactoos.iterator.Immutable<>(this.col.iterator());
     }
 
+    @Override
+    public Spliterator<X> spliterator() {
+        return new ImmutableSpliterator<>(this.col.spliterator());
+    }
+
     @Override
     public boolean contains(final Object object) {
         return this.col.contains(object);
@@ -29,6 +29,9 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import org.cactoos.Func;
 import org.cactoos.Proc;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.ThreadPerTask;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * Func that runs in the background.
@@ -40,6 +43,12 @@ import org.cactoos.Proc;
  *   input -&gt; input.length()
  * ).apply("Hello, world!").get();</pre>
  *
+ * <p>By default the calls run one by one in a single background
+ * thread. To run each call in its own thread, virtual on JDK 21 and
+ * later, use {@link ThreadPerTask}:</p>
+ *
+ * <pre> new Async&lt;&gt;(func, new ThreadPerTask());</pre>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of input
@@ -75,6 +84,17 @@ public final class Async<X, Y> implements Func<X, Future<Y>>, Proc<X> {
         this(fnc, Executors.newSingleThreadExecutor(fct));
     }
 
+    /**
+     * Ctor.
+     * @param fnc The func
+     * @param svc Source of the executor service, like {@link ThreadPerTask}
+     * @since 0.53
+     */
+    public Async(final Func<X, Y> fnc,
+        final Scalar<? extends ExecutorService> svc) {
+        this(fnc, new Unchecked<ExecutorService>(svc).value());
+    }
+
     /**
      * Ctor.
      * @param fnc The func
@@ -0,0 +1,290 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Func;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Func that caches calculated values for some time after they
+ * were calculated.
+ *
+ * <p>Cache hits don't lock anything. When a value expires, it is
+ * calculated again, only once even if many threads ask for it at
+ * the same time. If an {@link Executor} is provided, expired values
+ * are refreshed ahead: callers get the stale value immediately, while
+ * the new one is being calculated in the background. If such refresh
+ * fails, the failure goes to the executor, the stale value stays and
+ * the next call tries again.</p>
+ *
+ * <pre>{@code
+ * final Func<String, String> flags = new ExpiringFunc<>(
+ *     name -> remote.flag(name),
+ *     Duration.ofMinutes(1L),
+ *     Executors.newSingleThreadExecutor()
+ * );
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see ExpiringIdleFunc
+ * @see org.cactoos.scalar.Expiring
+ * @since 0.53
+ */
+public final class ExpiringFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * Original func, for refreshes in the background.
+     */
+    private final UncheckedFunc<X, Y> unchecked;
+
+    /**
+     * Values with the time they were calculated at.
+     */
+    private final ConcurrentMap<X, Map.Entry<Y, Long>> cache;
+
+    /**
+     * Keys being refreshed in the background.
+     */
+    private final Set<X> refreshing;
+
+    /**
+     * Calculations in progress.
+     */
+    private final ConcurrentMap<X, FutureTask<Y>> tasks;
+
+    /**
+     * Time to live, in milliseconds.
+     */
+    private final long ttl;
+
+    /**
+     * Executor of refreshes.
+     */
+    private final Executor executor;
+
+    /**
+     * Refresh ahead or not.
+     */
+    private final boolean ahead;
+
+    /**
+     * The clock.
+     */
+    private final Clock clock;
+
+    /**
+     * Time of the last removal of expired values.
+     */
+    private final AtomicLong swept;
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param time Time to live after calculation
+     */
+    public ExpiringFunc(final Func<X, Y> fnc, final Duration time) {
+        this(fnc, time, Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param time Time to live after calculation
+     * @param clk The clock
+     */
+    public ExpiringFunc(final Func<X, Y> fnc, final Duration time,
+        final Clock clk) {
+        this(fnc, time.toMillis(), Runnable::run, false, clk);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param time Time to live after calculation
+     * @param exec Executor to refresh expired values in
+     */
+    public ExpiringFunc(final Func<X, Y> fnc, final Duration time,
+        final Executor exec) {
+        this(fnc, time, exec, Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param time Time to live after calculation
+     * @param exec Executor to refresh expired values in
+     * @param clk The clock
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ExpiringFunc(final Func<X, Y> fnc, final Duration time,
+        final Executor exec, final Clock clk) {
+        this(fnc, time.toMillis(), exec, true, clk);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param time Time to live after calculation, in milliseconds
+     * @param exec Executor to refresh expired values in
+     * @param refresh Refresh ahead or not
+     * @param clk The clock
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private ExpiringFunc(final Func<X, Y> fnc, final long time,
+        final Executor exec, final boolean refresh, final Clock clk) {
+        this.func = fnc;
+        this.unchecked = new UncheckedFunc<>(fnc);
+        this.cache = new ConcurrentHashMap<>(0);
+        this.tasks = new ConcurrentHashMap<>(0);
+        this.refreshing = ConcurrentHashMap.newKeySet();
+        this.ttl = time;
+        this.executor = exec;
+        this.ahead = refresh;
+        this.clock = clk;
+        this.swept = new AtomicLong(clk.millis());
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final long now = this.clock.millis();
+        final Map.Entry<Y, Long> entry = this.cache.get(input);
+        final Y result;
+        if (entry != null && now - entry.getValue() < this.ttl) {
+            result = entry.getKey();
+        } else if (entry != null && this.ahead) {
+            this.refresh(input);
+            result = entry.getKey();
+        } else {
+            this.sweep(now);
+            result = this.calculate(input);
+        }
+        return result;
+    }
+
+    /**
+     * Calculate the value, if nobody did it yet. The original func
+     * runs outside of any lock of the map, so it may use this one
+     * for other keys.
+     * @param input The input
+     * @return The value
+     * @throws Exception If fails
+     */
+    private Y calculate(final X input) throws Exception {
+        final FutureTask<Y> task = new FutureTask<>(
+            () -> {
+                final Map.Entry<Y, Long> before = this.cache.get(input);
+                final Y value;
+                if (before != null
+                    && this.clock.millis() - before.getValue() < this.ttl) {
+                    value = before.getKey();
+                } else {
+                    value = this.func.apply(input);
+                    this.cache.put(
+                        input, new MapEntry<>(value, this.clock.millis())
+                    );
+                }
+                return value;
+            }
+        );
+        FutureTask<Y> running = this.tasks.putIfAbsent(input, task);
+        if (running == null) {
+            running = task;
+            try {
+                task.run();
+            } finally {
+                this.tasks.remove(input, task);
+            }
+        }
+        return new Awaited<>(running).value();
+    }
+
+    /**
+     * Refresh the value in the background, if it's not being refreshed.
+     * If the executor rejects the refresh, the stale value stays and
+     * the next call tries again.
+     * @param input The input
+     */
+    private void refresh(final X input) {
+        if (this.refreshing.add(input)) {
+            try {
+                this.executor.execute(
+                    () -> {
+                        try {
+                            this.cache.put(
+                                input,
+                                new MapEntry<>(
+                                    this.unchecked.apply(input),
+                                    this.clock.millis()
+                                )
+                            );
+                        } finally {
+                            this.refreshing.remove(input);
+                        }
+                    }
+                );
+            } catch (final RejectedExecutionException ex) {
+                this.refreshing.remove(input);
+            }
+        }
+    }
+
+    /**
+     * Remove expired values, not more often than once per TTL.
+     * When refreshing ahead, only values that nobody asked for during
+     * one more TTL after their expiration are removed.
+     * @param now Current time
+     */
+    private void sweep(final long now) {
+        final long last = this.swept.get();
+        if (now - last >= this.ttl && this.swept.compareAndSet(last, now)) {
+            final long age;
+            if (this.ahead) {
+                age = this.ttl * 2L;
+            } else {
+                age = this.ttl;
+            }
+            this.cache.values().removeIf(
+                entry -> now - entry.getValue() >= age
+            );
+        }
+    }
+}
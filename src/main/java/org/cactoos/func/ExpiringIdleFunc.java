@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Func;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Func that caches calculated values while they are in use and
+ * forgets the ones that were not requested for some time.
+ *
+ * <p>Cache hits don't lock anything, they only move the time of the
+ * last access. When a value expires, it is calculated again, only once
+ * even if many threads ask for it at the same time.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see ExpiringFunc
+ * @see org.cactoos.scalar.ExpiringIdle
+ * @since 0.53
+ */
+public final class ExpiringIdleFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * Values with the time they were requested last time at.
+     */
+    private final ConcurrentMap<X, Map.Entry<Y, AtomicLong>> cache;
+
+    /**
+     * Calculations in progress.
+     */
+    private final ConcurrentMap<X, FutureTask<Y>> tasks;
+
+    /**
+     * Time to live, in milliseconds.
+     */
+    private final long ttl;
+
+    /**
+     * The clock.
+     */
+    private final Clock clock;
+
+    /**
+     * Time of the last removal of expired values.
+     */
+    private final AtomicLong swept;
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param time Time to live after the last access
+     */
+    public ExpiringIdleFunc(final Func<X, Y> fnc, final Duration time) {
+        this(fnc, time, Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param time Time to live after the last access
+     * @param clk The clock
+     */
+    public ExpiringIdleFunc(final Func<X, Y> fnc, final Duration time,
+        final Clock clk) {
+        this.func = fnc;
+        this.cache = new ConcurrentHashMap<>(0);
+        this.tasks = new ConcurrentHashMap<>(0);
+        this.ttl = time.toMillis();
+        this.clock = clk;
+        this.swept = new AtomicLong(clk.millis());
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final long now = this.clock.millis();
+        final Map.Entry<Y, AtomicLong> entry = this.cache.get(input);
+        final Y result;
+        if (entry != null && now - entry.getValue().get() < this.ttl) {
+            entry.getValue().lazySet(now);
+            result = entry.getKey();
+        } else {
+            this.sweep(now);
+            result = this.calculate(input);
+        }
+        return result;
+    }
+
+    /**
+     * Calculate the value, if nobody did it yet. The original func
+     * runs outside of any lock of the map, so it may use this one
+     * for other keys.
+     * @param input The input
+     * @return The value
+     * @throws Exception If fails
+     */
+    private Y calculate(final X input) throws Exception {
+        final FutureTask<Y> task = new FutureTask<>(
+            () -> {
+                final Map.Entry<Y, AtomicLong> before =
+                    this.cache.get(input);
+                final long now = this.clock.millis();
+                final Y value;
+                if (before != null
+                    && now - before.getValue().get() < this.ttl) {
+                    value = before.getKey();
+                } else {
+                    value = this.func.apply(input);
+                    this.cache.put(
+                        input,
+                        new MapEntry<>(
+                            value, new AtomicLong(this.clock.millis())
+                        )
+                    );
+                }
+                return value;
+            }
+        );
+        FutureTask<Y> running = this.tasks.putIfAbsent(input, task);
+        if (running == null) {
+            running = task;
+            try {
+                task.run();
+            } finally {
+                this.tasks.remove(input, task);
+            }
+        }
+        return new Awaited<>(running).value();
+    }
+
+    /**
+     * Remove expired values, not more often than once per TTL.
+     * @param now Current time
+     */
+    private void sweep(final long now) {
+        final long last = this.swept.get();
+        if (now - last >= this.ttl && this.swept.compareAndSet(last, now)) {
+            this.cache.values().removeIf(
+                entry -> now - entry.getValue().get() >= this.ttl
+            );
+        }
+    }
+}
@@ -23,11 +23,17 @@
  */
 package org.cactoos.func;
 
+import java.util.Map;
 import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.cactoos.map.MapEntry;
 
 /**
  * BiFunc that is thread-safe and sticky.
  *
+ * <p>It is backed by {@link SolidFunc}, so cache hits don't lock
+ * anything.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @param <X> Type of first input
@@ -52,6 +58,19 @@ public final class SolidBiFunc<X, Y, Z> extends BiFuncEnveloppe<X, Y, Z> {
      * @since 0.26
      */
     public SolidBiFunc(final BiFunc<X, Y, Z> fnc, final int max) {
-        super(new SyncBiFunc<>(new StickyBiFunc<>(fnc, max)));
+        this(
+            new SolidFunc<Map.Entry<X, Y>, Z>(
+                entry -> fnc.apply(entry.getKey(), entry.getValue()),
+                max
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Solid func of pairs of arguments
+     */
+    private SolidBiFunc(final Func<Map.Entry<X, Y>, Z> fnc) {
+        super((first, second) -> fnc.apply(new MapEntry<>(first, second)));
     }
 }
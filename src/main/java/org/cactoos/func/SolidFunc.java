@@ -23,11 +23,31 @@
  */
 package org.cactoos.func;
 
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import org.cactoos.Func;
 
 /**
  * Func that is thread-safe and sticky.
  *
+ * <p>Results are kept in a {@link ConcurrentHashMap} of futures, so cache
+ * hits don't lock anything, and concurrent misses for the same key
+ * calculate the result only once: one thread calculates it and the
+ * others wait for the future. Misses for different keys don't block
+ * each other. If the calculation fails, the failure is not cached.</p>
+ *
+ * <p>The function may call itself for other keys, but not for the key
+ * it is calculating: such a call would wait for itself forever, so it
+ * throws {@link IllegalStateException} instead.</p>
+ *
+ * <p>When the cache is bounded and gets overflowed, arbitrary entries
+ * are evicted, not the least recently used ones. Use
+ * {@link StickyFunc} decorated with {@link SyncFunc} if you need
+ * an exact eviction policy.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @param <X> Type of input
@@ -36,11 +56,31 @@ import org.cactoos.Func;
  */
 public final class SolidFunc<X, Y> implements Func<X, Y> {
 
+    /**
+     * The key of the {@code null} input, which the map can't keep.
+     */
+    private static final Object NOTHING = new Object();
+
     /**
      * Original func.
      */
     private final Func<X, Y> func;
 
+    /**
+     * Cache.
+     */
+    private final ConcurrentMap<Object, Future<Y>> cache;
+
+    /**
+     * Threads that calculate the futures which are not done yet.
+     */
+    private final ConcurrentMap<Future<Y>, Thread> owners;
+
+    /**
+     * Maximum cache size.
+     */
+    private final int size;
+
     /**
      * Ctor.
      * @param fnc Original function
@@ -56,11 +96,78 @@ public final class SolidFunc<X, Y> implements Func<X, Y> {
      * @since 0.26
      */
     public SolidFunc(final Func<X, Y> fnc, final int max) {
-        this.func = new SyncFunc<>(new StickyFunc<>(fnc, max));
+        this.func = fnc;
+        this.cache = new ConcurrentHashMap<>(0);
+        this.owners = new ConcurrentHashMap<>(0);
+        this.size = max;
     }
 
     @Override
     public Y apply(final X input) throws Exception {
-        return this.func.apply(input);
+        final Object key = SolidFunc.key(input);
+        Future<Y> future = this.cache.get(key);
+        if (future == null) {
+            final FutureTask<Y> task = new FutureTask<>(
+                () -> this.func.apply(input)
+            );
+            future = this.cache.putIfAbsent(key, task);
+            if (future == null) {
+                future = task;
+                this.owners.put(task, Thread.currentThread());
+                try {
+                    task.run();
+                } finally {
+                    this.owners.remove(task);
+                }
+                this.shrink();
+            }
+        }
+        if (this.owners.get(future) == Thread.currentThread()) {
+            throw new IllegalStateException(
+                String.format(
+                    "Recursive call of the function for the same key: %s",
+                    input
+                )
+            );
+        }
+        final Y result;
+        boolean failed = true;
+        try {
+            result = new Awaited<>(future).value();
+            failed = false;
+        } finally {
+            if (failed && future.isDone()) {
+                this.cache.remove(key, future);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Evict entries above the limit.
+     */
+    private void shrink() {
+        if (this.cache.size() > this.size) {
+            final Iterator<Object> keys = this.cache.keySet().iterator();
+            while (this.cache.size() > this.size && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+    }
+
+    /**
+     * The key of the input in the map.
+     * @param input The input
+     * @return The input itself, or a marker of {@code null}
+     */
+    private static Object key(final Object input) {
+        final Object key;
+        if (input == null) {
+            key = SolidFunc.NOTHING;
+        } else {
+            key = input;
+        }
+        return key;
     }
 }
@@ -23,9 +23,10 @@
  */
 package org.cactoos.func;
 
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.Map;
 import org.cactoos.BiFunc;
+import org.cactoos.map.Lru;
 import org.cactoos.map.MapEntry;
 import org.cactoos.scalar.Sticky;
 
@@ -37,7 +38,10 @@ import org.cactoos.scalar.Sticky;
  * recommended to always decorate it with {@link SyncBiFunc}.</p>
  *
  * <p>This {@link BiFunc} decorator technically is an in-memory
- * cache.</p>
+ * cache. When it is bounded, the least recently used results are
+ * evicted first, see {@link Lru}. Any other cache engine may be
+ * provided as a {@link Map}, for example
+ * {@link org.cactoos.map.Lfu} or {@link org.cactoos.map.Counted}.</p>
  *
  * <p>There is no thread-safety guarantee.
  * @param <X> Type of input
@@ -58,17 +62,12 @@ public final class StickyBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
      */
     private final Map<Map.Entry<X, Y>, Z> cache;
 
-    /**
-     * Maximum cache size.
-     */
-    private final int size;
-
     /**
      * Ctor.
      * @param fnc Func original
      */
     public StickyBiFunc(final BiFunc<X, Y, Z> fnc) {
-        this(fnc, Integer.MAX_VALUE);
+        this(fnc, new HashMap<>(0));
     }
 
     /**
@@ -78,21 +77,30 @@ public final class StickyBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
      * @since 0.26
      */
     public StickyBiFunc(final BiFunc<X, Y, Z> fnc, final int max) {
+        this(fnc, new Lru<>(max));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param map Cache engine
+     * @since 0.53
+     */
+    public StickyBiFunc(final BiFunc<X, Y, Z> fnc,
+        final Map<Map.Entry<X, Y>, Z> map) {
         this.func = fnc;
-        this.cache = new LinkedHashMap<>(0);
-        this.size = max;
+        this.cache = map;
     }
 
     @Override
     public Z apply(final X first, final Y second) throws Exception {
         final Map.Entry<X, Y> key = new MapEntry<>(first, second);
-        while (this.cache.size() > this.size) {
-            this.cache.remove(this.cache.keySet().iterator().next());
-        }
-        if (!this.cache.containsKey(key)) {
-            this.cache.put(key, this.func.apply(first, second));
+        Z result = this.cache.get(key);
+        if (result == null && !this.cache.containsKey(key)) {
+            result = this.func.apply(first, second);
+            this.cache.put(key, result);
         }
-        return this.cache.get(key);
+        return result;
     }
 
 }
@@ -23,8 +23,10 @@
  */
 package org.cactoos.func;
 
-import org.cactoos.BiFunc;
+import java.util.HashMap;
+import java.util.Map;
 import org.cactoos.Func;
+import org.cactoos.map.Lru;
 import org.cactoos.scalar.Sticky;
 
 /**
@@ -32,7 +34,10 @@ import org.cactoos.scalar.Sticky;
  * recalculate again.
  *
  * <p>This {@link Func} decorator technically is an in-memory
- * cache.</p>
+ * cache. When it is bounded, the least recently used results are
+ * evicted first, see {@link Lru}. Any other cache engine may be
+ * provided as a {@link Map}, for example
+ * {@link org.cactoos.map.Lfu} or {@link org.cactoos.map.Counted}.</p>
  *
  * <p>Pay attention that this class is not thread-safe. It is highly
  * recommended to always decorate it with {@link SyncFunc}.</p>
@@ -47,16 +52,21 @@ import org.cactoos.scalar.Sticky;
 public final class StickyFunc<X, Y> implements Func<X, Y> {
 
     /**
-     * Sticky bi-func.
+     * Original func.
      */
-    private final BiFunc<X, Boolean, Y> func;
+    private final Func<X, Y> func;
+
+    /**
+     * Cache.
+     */
+    private final Map<X, Y> cache;
 
     /**
      * Ctor.
      * @param fnc Func original
      */
     public StickyFunc(final Func<X, Y> fnc) {
-        this(fnc, Integer.MAX_VALUE);
+        this(fnc, new HashMap<>(0));
     }
 
     /**
@@ -66,15 +76,28 @@ public final class StickyFunc<X, Y> implements Func<X, Y> {
      * @since 0.26
      */
     public StickyFunc(final Func<X, Y> fnc, final int max) {
-        this.func = new StickyBiFunc<>(
-            (first, second) -> fnc.apply(first),
-            max
-        );
+        this(fnc, new Lru<>(max));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param map Cache engine
+     * @since 0.53
+     */
+    public StickyFunc(final Func<X, Y> fnc, final Map<X, Y> map) {
+        this.func = fnc;
+        this.cache = map;
     }
 
     @Override
     public Y apply(final X input) throws Exception {
-        return this.func.apply(input, true);
+        Y result = this.cache.get(input);
+        if (result == null && !this.cache.containsKey(input)) {
+            result = this.func.apply(input);
+            this.cache.put(input, result);
+        }
+        return result;
     }
 
 }
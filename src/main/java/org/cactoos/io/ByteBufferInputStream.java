@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Input stream that reads the remaining bytes of a {@link ByteBuffer}.
+ *
+ * <p>The buffer may be a {@link java.nio.MappedByteBuffer}, like the one
+ * of {@link MappedInputOf}. Consumers that know this class, like
+ * {@link org.cactoos.scalar.LengthOf} and {@link org.cactoos.bytes.BytesOf},
+ * take the content right from {@link #buffer()}, without copying it
+ * through a heap buffer.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class ByteBufferInputStream extends InputStream {
+
+    /**
+     * The buffer.
+     */
+    private final ByteBuffer origin;
+
+    /**
+     * Ctor.
+     * @param buf The buffer
+     */
+    public ByteBufferInputStream(final ByteBuffer buf) {
+        super();
+        this.origin = buf;
+    }
+
+    /**
+     * Read-only view of the bytes not read yet.
+     *
+     * <p>The view has its own position, reading from it doesn't move
+     * this stream.</p>
+     *
+     * @return The view
+     */
+    public ByteBuffer buffer() {
+        return this.origin.asReadOnlyBuffer().slice();
+    }
+
+    @Override
+    public int read() {
+        final int next;
+        if (this.origin.hasRemaining()) {
+            next = this.origin.get() & 0xff;
+        } else {
+            next = -1;
+        }
+        return next;
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len) {
+        final int count;
+        if (len == 0) {
+            count = 0;
+        } else if (this.origin.hasRemaining()) {
+            count = Math.min(len, this.origin.remaining());
+            this.origin.get(buf, off, count);
+        } else {
+            count = -1;
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(final long num) {
+        final int count = (int) Math.max(
+            0L, Math.min(num, (long) this.origin.remaining())
+        );
+        this.origin.position(this.origin.position() + count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return this.origin.remaining();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import org.cactoos.Scalar;
+
+/**
+ * Copy of the rest of a file to another file, through their channels.
+ *
+ * <p>The content is copied with {@link FileChannel#transferTo(long, long,
+ * java.nio.channels.WritableByteChannel)}, so the kernel copies it without
+ * going through the heap. The copy goes on until the end of the source,
+ * even if the file grows or is shorter than its size: when the channel
+ * stops transferring, the rest is read through a buffer. The position of
+ * the source is not moved, and neither channel is closed.</p>
+ *
+ * <p>The value is the number of bytes copied.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class ChannelTransfer implements Scalar<Long> {
+
+    /**
+     * Size of the buffer for the rest of a file that the channel
+     * didn't transfer.
+     */
+    private static final int BUFFER = 16 << 10;
+
+    /**
+     * The source.
+     */
+    private final FileChannel source;
+
+    /**
+     * Position in the source to copy from.
+     */
+    private final long start;
+
+    /**
+     * The target.
+     */
+    private final FileChannel target;
+
+    /**
+     * Ctor.
+     * @param src The source
+     * @param from Position in the source to copy from
+     * @param tgt The target
+     */
+    public ChannelTransfer(final FileChannel src, final long from,
+        final FileChannel tgt) {
+        this.source = src;
+        this.start = from;
+        this.target = tgt;
+    }
+
+    @Override
+    public Long value() throws Exception {
+        long pos = this.start;
+        long done = this.source.transferTo(
+            pos, Long.MAX_VALUE - pos, this.target
+        );
+        while (done > 0L) {
+            pos += done;
+            done = this.source.transferTo(
+                pos, Long.MAX_VALUE - pos, this.target
+            );
+        }
+        final ByteBuffer buf = ByteBuffer.allocate(ChannelTransfer.BUFFER);
+        int read = this.source.read(buf, pos);
+        while (read >= 0) {
+            pos += read;
+            buf.flip();
+            while (buf.hasRemaining()) {
+                this.target.write(buf);
+            }
+            buf.clear();
+            read = this.source.read(buf, pos);
+        }
+        return pos - this.start;
+    }
+}
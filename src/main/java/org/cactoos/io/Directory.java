@@ -24,16 +24,27 @@
 package org.cactoos.io;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.file.FileSystems;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.util.Iterator;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Map;
+import org.cactoos.Func;
+import org.cactoos.iterable.Mapped;
 
 /**
  * Files and folders in a directory.
  *
+ * <p>The directory is walked lazily, in the same order as by
+ * {@link java.nio.file.Files#walk(Path, java.nio.file.FileVisitOption...)},
+ * and the first path is returned before the rest of the tree is
+ * listed. See {@link Walk} for attributes of the paths, and for skipping
+ * subtrees, and {@link WalkInThreads} for walking in many threads.</p>
+ *
+ * <pre>{@code
+ * new Directory(dir, "**&#47;*.java");
+ * }</pre>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.21
@@ -45,6 +56,16 @@ public final class Directory implements Iterable<Path> {
      */
     private final Path dir;
 
+    /**
+     * Maximum depth.
+     */
+    private final int depth;
+
+    /**
+     * Should the path be returned?
+     */
+    private final Func<? super Path, Boolean> include;
+
     /**
      * Ctor.
      * @param file File as a path to directory.
@@ -58,16 +79,67 @@ public final class Directory implements Iterable<Path> {
      * @param path Path of the dir
      */
     public Directory(final Path path) {
+        this(path, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param max Maximum depth, zero for the dir only
+     */
+    public Directory(final Path path, final int max) {
+        this(path, max, item -> true);
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param glob Glob pattern, for paths relative to the dir
+     */
+    public Directory(final Path path, final String glob) {
+        this(
+            path,
+            FileSystems.getDefault().getPathMatcher(
+                String.format("glob:%s", glob)
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param matcher Matcher, for paths relative to the dir
+     */
+    public Directory(final Path path, final PathMatcher matcher) {
+        this(
+            path,
+            Integer.MAX_VALUE,
+            item -> matcher.matches(path.relativize(item))
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param path Path of the dir
+     * @param max Maximum depth, zero for the dir only
+     * @param items Should the path be returned?
+     */
+    public Directory(final Path path, final int max,
+        final Func<? super Path, Boolean> items) {
         this.dir = path;
+        this.depth = max;
+        this.include = items;
     }
 
     @Override
     public Iterator<Path> iterator() {
-        try (Stream<Path> files = Files.walk(this.dir)) {
-            return files.collect(Collectors.toList()).iterator();
-        } catch (final IOException ex) {
-            throw new IllegalStateException(ex);
-        }
+        return new Mapped<>(
+            Map.Entry::getKey,
+            new Walk(
+                this.dir, this.depth,
+                item -> this.include.apply(item.getKey())
+            )
+        ).iterator();
     }
 
 }
@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import org.cactoos.Output;
+
+/**
+ * Output that writes compressed data in the GZIP file format,
+ * compressing blocks of data in many threads.
+ *
+ * <p>The result is a standard GZIP stream, which {@link GzipInput} and
+ * {@code gunzip} can read. See {@link GzipInThreadsOutputStream} for
+ * details.</p>
+ *
+ * <p>Each stream has its own pool of {@code threads} daemon threads,
+ * which is shut down when the stream is closed.</p>
+ *
+ * @since 0.53
+ */
+public final class GzipInThreadsOutput implements Output {
+
+    /**
+     * The output.
+     */
+    private final Output origin;
+
+    /**
+     * Number of threads.
+     */
+    private final int threads;
+
+    /**
+     * Size of a block.
+     */
+    private final int block;
+
+    /**
+     * Compression level.
+     */
+    private final int level;
+
+    /**
+     * Ctor.
+     * @param output The output
+     */
+    public GzipInThreadsOutput(final Output output) {
+        this(output, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param threads Number of threads
+     */
+    public GzipInThreadsOutput(final Output output, final int threads) {
+        // @checkstyle MagicNumberCheck (1 line)
+        this(output, threads, 128 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param threads Number of threads
+     * @param block Size of a block
+     */
+    public GzipInThreadsOutput(final Output output, final int threads,
+        final int block) {
+        this(output, threads, block, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param threads Number of threads
+     * @param block Size of a block
+     * @param level Compression level, see {@link Deflater}
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public GzipInThreadsOutput(final Output output, final int threads,
+        final int block, final int level) {
+        this.origin = output;
+        this.threads = threads;
+        this.block = block;
+        this.level = level;
+    }
+
+    @Override
+    public OutputStream stream() throws Exception {
+        if (this.threads < 1) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Number of threads must be positive, %d given",
+                    this.threads
+                )
+            );
+        }
+        return new GzipInThreadsOutputStream(
+            this.origin.stream(),
+            this.threads,
+            this.block,
+            this.level
+        );
+    }
+}
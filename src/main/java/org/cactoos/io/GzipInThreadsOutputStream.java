@@ -0,0 +1,416 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Stream that compresses data in the GZIP file format in many threads.
+ *
+ * <p>The data is split into blocks, and the blocks are deflated in
+ * the executor at the same time, the same way pigz does it. Each block
+ * is primed with the last 32 KB of the previous one as a dictionary, so
+ * the compression ratio stays close to the one of a single stream.
+ * Blocks end on a byte boundary and only the last one is final, so
+ * the result is a single standard GZIP member, which
+ * {@link java.util.zip.GZIPInputStream} and {@code gunzip} can read.</p>
+ *
+ * <p>At most {@code max} blocks are compressed or waiting to be written
+ * at the same time, so memory is bounded by {@code max * block}.
+ * An executor given to the constructor belongs to the caller and is
+ * not shut down when the stream is closed; the pool created by the
+ * stream itself is.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+@SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+public final class GzipInThreadsOutputStream extends OutputStream {
+
+    /**
+     * Size of the deflate window, the max size of a dictionary.
+     */
+    private static final int WINDOW = 32 << 10;
+
+    /**
+     * Header of a GZIP member: deflate, no flags, no time, unknown OS.
+     */
+    private static final byte[] HEADER = {
+        (byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0,
+    };
+
+    /**
+     * The output.
+     */
+    private final OutputStream origin;
+
+    /**
+     * The executor.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Shut down the executor on close or not.
+     */
+    private final boolean own;
+
+    /**
+     * Maximum number of blocks in progress.
+     */
+    private final int max;
+
+    /**
+     * Compression level.
+     */
+    private final int level;
+
+    /**
+     * Blocks in progress, in the order of the data.
+     */
+    private final Queue<Future<byte[]>> pending;
+
+    /**
+     * Checksum of all the data.
+     */
+    private final CRC32 crc;
+
+    /**
+     * Current block.
+     */
+    private byte[] block;
+
+    /**
+     * Number of bytes in the current block.
+     */
+    private int filled;
+
+    /**
+     * Dictionary for the current block.
+     */
+    private byte[] dict;
+
+    /**
+     * Total number of bytes written.
+     */
+    private long total;
+
+    /**
+     * Is the stream closed?
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param threads Number of threads in the pool of the stream
+     * @param block Size of a block
+     * @param level Compression level, see {@link Deflater}
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public GzipInThreadsOutputStream(
+        final OutputStream output,
+        final int threads,
+        final int block,
+        final int level
+    ) {
+        this(
+            output,
+            Executors.newFixedThreadPool(
+                threads,
+                runnable -> {
+                    final Thread thread = Executors.defaultThreadFactory()
+                        .newThread(runnable);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            ),
+            true,
+            threads * 2,
+            block,
+            level
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param exc The executor, which stays running after close
+     * @param max Maximum number of blocks in progress
+     * @param block Size of a block
+     * @param level Compression level, see {@link Deflater}
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public GzipInThreadsOutputStream(
+        final OutputStream output,
+        final ExecutorService exc,
+        final int max,
+        final int block,
+        final int level
+    ) {
+        this(output, exc, false, max, block, level);
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param exc The executor
+     * @param owned Shut down the executor on close or not
+     * @param max Maximum number of blocks in progress
+     * @param block Size of a block
+     * @param level Compression level, see {@link Deflater}
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private GzipInThreadsOutputStream(
+        final OutputStream output,
+        final ExecutorService exc,
+        final boolean owned,
+        final int max,
+        final int block,
+        final int level
+    ) {
+        super();
+        this.origin = output;
+        this.executor = exc;
+        this.own = owned;
+        this.max = GzipInThreadsOutputStream.positive(max, "Number");
+        this.level = level;
+        this.pending = new ArrayDeque<>(this.max);
+        this.crc = new CRC32();
+        this.block = new byte[
+            GzipInThreadsOutputStream.positive(block, "Size")
+        ];
+        this.dict = new byte[0];
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.write(new byte[] {(byte) data}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] buf, final int off, final int len)
+        throws IOException {
+        this.ensureOpen();
+        if (this.total == 0L && len > 0) {
+            this.origin.write(GzipInThreadsOutputStream.HEADER);
+        }
+        this.crc.update(buf, off, len);
+        this.total += len;
+        int pos = off;
+        final int end = off + len;
+        while (pos < end) {
+            final int count = Math.min(
+                end - pos, this.block.length - this.filled
+            );
+            System.arraycopy(buf, pos, this.block, this.filled, count);
+            this.filled += count;
+            pos += count;
+            if (this.filled == this.block.length) {
+                this.submit(false);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.ensureOpen();
+        if (this.filled > 0) {
+            this.submit(false);
+        }
+        while (!this.pending.isEmpty()) {
+            this.origin.write(this.written());
+        }
+        this.origin.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            try {
+                if (this.total == 0L) {
+                    this.origin.write(GzipInThreadsOutputStream.HEADER);
+                }
+                this.submit(true);
+                while (!this.pending.isEmpty()) {
+                    this.origin.write(this.written());
+                }
+                this.origin.write(
+                    GzipInThreadsOutputStream.littleEndian(this.crc.getValue())
+                );
+                this.origin.write(
+                    GzipInThreadsOutputStream.littleEndian(this.total)
+                );
+            } finally {
+                this.closed = true;
+                this.pending.forEach(future -> future.cancel(true));
+                if (this.own) {
+                    this.executor.shutdownNow();
+                }
+                this.origin.close();
+            }
+        }
+    }
+
+    /**
+     * Send the current block to the executor and start a new one.
+     * @param last Is it the last block?
+     * @throws IOException If fails
+     */
+    private void submit(final boolean last) throws IOException {
+        if (this.pending.size() >= this.max) {
+            this.origin.write(this.written());
+        }
+        final byte[] data = this.block;
+        final int size = this.filled;
+        final byte[] dictionary = this.dict;
+        final int lvl = this.level;
+        this.pending.add(
+            this.executor.submit(
+                () -> GzipInThreadsOutputStream.deflated(
+                    lvl, dictionary, data, size, last
+                )
+            )
+        );
+        final int kept = Math.min(size, GzipInThreadsOutputStream.WINDOW);
+        final byte[] next = new byte[kept];
+        System.arraycopy(data, size - kept, next, 0, kept);
+        this.dict = next;
+        this.block = new byte[data.length];
+        this.filled = 0;
+    }
+
+    /**
+     * Wait for the oldest block to be compressed.
+     * @return The compressed block
+     * @throws IOException If fails
+     */
+    private byte[] written() throws IOException {
+        try {
+            return this.pending.remove().get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        } catch (final ExecutionException ex) {
+            throw new IOException("Failed to compress a block", ex);
+        }
+    }
+
+    /**
+     * Make sure the stream is not closed.
+     * @throws IOException If it is closed
+     */
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("The stream is closed");
+        }
+    }
+
+    /**
+     * Make sure the number is positive.
+     * @param num The number
+     * @param what What the number is about
+     * @return The same number
+     */
+    private static int positive(final int num, final String what) {
+        if (num < 1) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "%s of blocks must be positive, %d given", what, num
+                )
+            );
+        }
+        return num;
+    }
+
+    /**
+     * Deflate one block.
+     * @param level Compression level
+     * @param dict Dictionary
+     * @param data The block
+     * @param size Number of bytes in the block
+     * @param last Is it the last block?
+     * @return Deflated block
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static byte[] deflated(
+        final int level,
+        final byte[] dict,
+        final byte[] data,
+        final int size,
+        final boolean last
+    ) {
+        final Deflater deflater = new Deflater(level, true);
+        try {
+            if (dict.length > 0) {
+                deflater.setDictionary(dict);
+            }
+            deflater.setInput(data, 0, size);
+            final ByteArrayOutputStream baos =
+                new ByteArrayOutputStream(size / 2 + 64);
+            final byte[] buf = new byte[Math.max(size, 512)];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    baos.write(buf, 0, deflater.deflate(buf));
+                }
+            } else {
+                int len = buf.length;
+                while (len == buf.length) {
+                    len = deflater.deflate(
+                        buf, 0, buf.length, Deflater.SYNC_FLUSH
+                    );
+                    baos.write(buf, 0, len);
+                }
+            }
+            return baos.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Four low bytes of a number, little-endian.
+     * @param num The number
+     * @return Bytes
+     */
+    private static byte[] littleEndian(final long num) {
+        return new byte[] {
+            (byte) num,
+            (byte) (num >> 8),
+            (byte) (num >> 16),
+            (byte) (num >> 24),
+        };
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import org.cactoos.Scalar;
+
+/**
+ * Is it a stream of a file whose size can be trusted.
+ *
+ * <p>It's TRUE when the stream is a {@link FileInputStream} and the
+ * content of the file ends exactly at the size of its channel, as it
+ * does in a regular file. Pseudo files, like the ones in {@code /sys},
+ * report a size that differs from their content, and
+ * {@link java.nio.file.Files#isRegularFile(java.nio.file.Path,
+ * java.nio.file.LinkOption...)} is TRUE for them too. Two positioned
+ * reads check it, without moving the stream.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class IsRegularFile implements Scalar<Boolean> {
+
+    /**
+     * The stream.
+     */
+    private final InputStream stream;
+
+    /**
+     * Ctor.
+     * @param strm The stream
+     */
+    public IsRegularFile(final InputStream strm) {
+        this.stream = strm;
+    }
+
+    @Override
+    public Boolean value() throws Exception {
+        boolean exact = this.stream instanceof FileInputStream;
+        if (exact) {
+            final FileChannel channel =
+                ((FileInputStream) this.stream).getChannel();
+            final long size = channel.size();
+            final ByteBuffer buf = ByteBuffer.allocate(1);
+            exact = size > 0L && channel.read(buf, size - 1L) == 1;
+            if (exact) {
+                buf.clear();
+                exact = channel.read(buf, size) < 0;
+            }
+        }
+        return exact;
+    }
+}
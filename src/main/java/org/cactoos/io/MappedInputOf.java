@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.cactoos.Input;
+
+/**
+ * Input of a file, mapped into memory.
+ *
+ * <p>The stream is a {@link ByteBufferInputStream} over
+ * a read-only {@link java.nio.MappedByteBuffer} of the whole file, so
+ * its content is not copied into the heap on reading. Consumers that
+ * know {@link ByteBufferInputStream}, like
+ * {@link org.cactoos.scalar.LengthOf}, {@link org.cactoos.bytes.BytesOf}
+ * and digests, take the size and the content right from the buffer.</p>
+ *
+ * <p>A single buffer can't be bigger than {@link Integer#MAX_VALUE}
+ * bytes, so bigger files are read as {@link InputOf} reads them, and
+ * consumers still find their size without reading them.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class MappedInputOf implements Input {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MappedInputOf(final File file) {
+        this(file.toPath());
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    public MappedInputOf(final Path file) {
+        this.path = file;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        final InputStream stream;
+        try (
+            FileChannel channel = FileChannel.open(
+                this.path, StandardOpenOption.READ
+            )
+        ) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                stream = new InputOf(this.path).stream();
+            } else {
+                stream = new ByteBufferInputStream(
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0L, size)
+                );
+            }
+        }
+        return stream;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.cactoos.Input;
+import org.cactoos.Proc;
+import org.cactoos.scalar.ThreadPerTask;
+
+/**
+ * Input of the data that a procedure writes to an output stream.
+ *
+ * <p>The procedure runs in its own thread, and writes through a pipe,
+ * so the data is produced only as fast as it is read, and at most
+ * the size of the pipe is kept in memory.</p>
+ *
+ * <pre>{@code
+ * new PipedInput(out -> out.write(bytes));
+ * }</pre>
+ *
+ * <p>If the procedure fails, reading the end of the stream throws its
+ * failure. See {@link WrittenInputStream}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class PipedInput implements Input {
+
+    /**
+     * The procedure.
+     */
+    private final Proc<? super OutputStream> writer;
+
+    /**
+     * Size of the pipe.
+     */
+    private final int size;
+
+    /**
+     * Ctor.
+     * @param proc The procedure
+     */
+    public PipedInput(final Proc<? super OutputStream> proc) {
+        // @checkstyle MagicNumber (1 line)
+        this(proc, 64 << 10);
+    }
+
+    /**
+     * Ctor.
+     * @param proc The procedure
+     * @param max Size of the pipe
+     */
+    public PipedInput(final Proc<? super OutputStream> proc, final int max) {
+        this.writer = proc;
+        this.size = max;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        final PipedInputStream input = new PipedInputStream(this.size);
+        final PipedOutputStream output = new PipedOutputStream(input);
+        final ExecutorService svc = new ThreadPerTask().value();
+        try {
+            final Future<?> task = svc.submit(
+                () -> {
+                    try (OutputStream out = output) {
+                        this.writer.exec(out);
+                    }
+                    return null;
+                }
+            );
+            return new WrittenInputStream(input, task);
+        } finally {
+            svc.shutdown();
+        }
+    }
+}
@@ -24,7 +24,9 @@
 package org.cactoos.io;
 
 import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import org.cactoos.Input;
 import org.cactoos.number.MinOf;
 import org.cactoos.text.FormattedText;
@@ -32,6 +34,13 @@ import org.cactoos.text.FormattedText;
 /**
  * Input showing only last N bytes of the stream.
  *
+ * <p>If the stream of the input is a {@link FileInputStream} of
+ * a regular file, like the one of {@link InputOf} made of
+ * a {@link java.io.File} or a {@link java.nio.file.Path}, its
+ * {@link FileChannel} is moved right to the last N bytes, so only they
+ * are read, however big the file is. Other streams, and pseudo files
+ * (see {@link IsRegularFile}), are read to the end.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.30
@@ -85,10 +94,41 @@ public final class TailOf implements Input {
                 ).asString()
             );
         }
+        final InputStream strm = this.input.stream();
+        final InputStream tail;
+        if (new IsRegularFile(strm).value()) {
+            tail = this.seeked((FileInputStream) strm);
+        } else {
+            tail = this.streamed(strm);
+        }
+        return tail;
+    }
+
+    /**
+     * Move the channel of a file right to its last bytes.
+     * @param strm Stream of the file
+     * @return Stream of the last bytes
+     * @throws Exception If fails
+     */
+    private InputStream seeked(final FileInputStream strm) throws Exception {
+        final FileChannel channel = strm.getChannel();
+        final long skip = channel.size() - channel.position() - this.count;
+        if (skip > 0L) {
+            channel.position(channel.position() + skip);
+        }
+        return new HeadInputStream(strm, this.count);
+    }
+
+    /**
+     * Read the stream to the end, keeping its last bytes.
+     * @param strm The stream
+     * @return Stream of the last bytes
+     * @throws Exception If fails
+     */
+    private InputStream streamed(final InputStream strm) throws Exception {
         final byte[] buffer = new byte[this.max];
         final byte[] response = new byte[this.count];
         int num = 0;
-        final InputStream strm = this.input.stream();
         for (int read = strm.read(buffer); read > 0; read = strm.read(buffer)) {
             if (read < this.max && read < this.count) {
                 num = this.copyPartial(buffer, response, num, read);
@@ -24,11 +24,16 @@
 package org.cactoos.io;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import org.cactoos.Bytes;
@@ -39,6 +44,16 @@ import org.cactoos.Text;
 /**
  * Input to Output copying pipe.
  *
+ * <p>When the output is a file and the input is a file or
+ * a {@link MappedInputOf}, the stream only reads the input, and when it
+ * is closed, the rest of the input, from where the stream started, is
+ * copied to the output at once, with {@link ChannelTransfer}, so the
+ * kernel copies it without going through the heap. The output gets the
+ * whole rest of the input, even if the stream was not read to the end.
+ * Nothing is copied before the stream is closed.</p>
+ *
+ * <p>Other inputs and outputs are copied as the stream is read.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.1
@@ -863,9 +878,66 @@ public final class TeeInput implements Input {
 
     @Override
     public InputStream stream() throws Exception {
-        return new TeeInputStream(
-            this.source.stream(), this.target.stream()
-        );
+        final InputStream input = this.source.stream();
+        final OutputStream output = this.target.stream();
+        final InputStream stream;
+        if (output instanceof FileOutputStream
+            && input instanceof ByteBufferInputStream) {
+            final ByteBuffer rest = ((ByteBufferInputStream) input).buffer();
+            stream = new TransferredInputStream(
+                input,
+                () -> TeeInput.transferred(rest, (FileOutputStream) output)
+            );
+        } else if (output instanceof FileOutputStream
+            && input instanceof FileInputStream
+            && ((FileInputStream) input).getChannel().size() > 0L) {
+            final long start = ((FileInputStream) input).getChannel()
+                .position();
+            stream = new TransferredInputStream(
+                input,
+                () -> TeeInput.transferred(
+                    (FileInputStream) input, start, (FileOutputStream) output
+                )
+            );
+        } else {
+            stream = new TeeInputStream(input, output);
+        }
+        return stream;
+    }
+
+    /**
+     * Copy a file to another file, through their channels.
+     * @param input The input file
+     * @param start Position in the input to copy from
+     * @param output The output file
+     * @return Number of bytes copied
+     * @throws Exception If fails
+     */
+    private static long transferred(final FileInputStream input,
+        final long start, final FileOutputStream output) throws Exception {
+        try (FileChannel target = output.getChannel()) {
+            return new ChannelTransfer(
+                input.getChannel(), start, target
+            ).value();
+        }
+    }
+
+    /**
+     * Copy a buffer to a file, through its channel.
+     * @param input The input buffer
+     * @param output The output file
+     * @return Number of bytes copied
+     * @throws Exception If fails
+     */
+    private static long transferred(final ByteBuffer input,
+        final FileOutputStream output) throws Exception {
+        try (FileChannel target = output.getChannel()) {
+            final long size = input.remaining();
+            while (input.hasRemaining()) {
+                target.write(input);
+            }
+            return size;
+        }
     }
 
 }
@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.IoChecked;
+
+/**
+ * Input stream that runs a transfer of its content when it is closed.
+ *
+ * <p>The transfer runs once, before the stream itself is closed. The
+ * stream is closed even if the transfer fails.</p>
+ *
+ * <p>This class is for internal use only, by {@link TeeInput}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+final class TransferredInputStream extends InputStream {
+
+    /**
+     * The stream.
+     */
+    private final InputStream origin;
+
+    /**
+     * The transfer.
+     */
+    private final Scalar<?> transfer;
+
+    /**
+     * Is it closed?
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     * @param input The stream
+     * @param trans The transfer
+     */
+    TransferredInputStream(final InputStream input, final Scalar<?> trans) {
+        super();
+        this.origin = input;
+        this.transfer = trans;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return this.origin.read();
+    }
+
+    @Override
+    public int read(final byte[] buf) throws IOException {
+        return this.read(buf, 0, buf.length);
+    }
+
+    @Override
+    public int read(final byte[] buf, final int offset,
+        final int len) throws IOException {
+        return this.origin.read(buf, offset, len);
+    }
+
+    @Override
+    public long skip(final long num) throws IOException {
+        return this.origin.skip(num);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return this.origin.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            this.closed = true;
+            try {
+                new IoChecked<>(this.transfer).value();
+            } finally {
+                this.origin.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.Map;
+import org.cactoos.Func;
+
+/**
+ * Files and folders in a directory, with their attributes, found lazily.
+ *
+ * <pre>{@code
+ * new Walk(
+ *     dir, 3,
+ *     dir -> !dir.getKey().endsWith(".git"),
+ *     file -> file.getValue().isRegularFile()
+ * );
+ * }</pre>
+ *
+ * <p>See {@link WalkIterator} for the order and for how subtrees are
+ * skipped. See {@link WalkInThreads} for the walk in many threads.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class Walk implements
+    Iterable<Map.Entry<Path, BasicFileAttributes>> {
+
+    /**
+     * The root.
+     */
+    private final Path root;
+
+    /**
+     * Maximum depth.
+     */
+    private final int depth;
+
+    /**
+     * Should the directory be listed?
+     */
+    private final Func<? super Map.Entry<Path, BasicFileAttributes>,
+        Boolean> enter;
+
+    /**
+     * Should the item be returned?
+     */
+    private final Func<? super Map.Entry<Path, BasicFileAttributes>,
+        Boolean> include;
+
+    /**
+     * Ctor.
+     * @param path The root
+     */
+    public Walk(final Path path) {
+        this(path, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param path The root
+     * @param max Maximum depth, zero for the root only
+     */
+    public Walk(final Path path, final int max) {
+        this(path, max, item -> true);
+    }
+
+    /**
+     * Ctor.
+     * @param path The root
+     * @param max Maximum depth, zero for the root only
+     * @param items Should the item be returned?
+     */
+    public Walk(final Path path, final int max,
+        final Func<? super Map.Entry<Path, BasicFileAttributes>, Boolean> items
+    ) {
+        this(path, max, dir -> true, items);
+    }
+
+    /**
+     * Ctor.
+     * @param path The root
+     * @param max Maximum depth, zero for the root only
+     * @param dirs Should the directory be listed?
+     * @param items Should the item be returned?
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Walk(final Path path, final int max,
+        final Func<? super Map.Entry<Path, BasicFileAttributes>, Boolean> dirs,
+        final Func<? super Map.Entry<Path, BasicFileAttributes>, Boolean> items
+    ) {
+        this.root = path;
+        this.depth = max;
+        this.enter = dirs;
+        this.include = items;
+    }
+
+    @Override
+    public Iterator<Map.Entry<Path, BasicFileAttributes>> iterator() {
+        return new WalkIterator(
+            this.root, this.depth, this.enter, this.include
+        );
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.Func;
+
+/**
+ * Files and folders in a directory, with their attributes, found
+ * in many threads.
+ *
+ * <p>Each directory is listed by its own task in a {@link ForkJoinPool},
+ * so wide trees, and slow or network file systems, are walked much
+ * faster than by {@link Walk}. The items come in no particular order,
+ * as soon as they are found. At most {@code max} items wait to be read,
+ * the tasks are blocked until they are.</p>
+ *
+ * <p>Depth and filters work the same way as in {@link WalkIterator}.
+ * See {@link WalkInThreadsIterator} for details.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class WalkInThreads implements
+    Iterable<Map.Entry<Path, BasicFileAttributes>> {
+
+    /**
+     * The root.
+     */
+    private final Path root;
+
+    /**
+     * Maximum depth.
+     */
+    private final int depth;
+
+    /**
+     * Should the directory be listed?
+     */
+    private final Func<? super Map.Entry<Path, BasicFileAttributes>,
+        Boolean> enter;
+
+    /**
+     * Should the item be returned?
+     */
+    private final Func<? super Map.Entry<Path, BasicFileAttributes>,
+        Boolean> include;
+
+    /**
+     * Number of threads.
+     */
+    private final int threads;
+
+    /**
+     * Maximum number of items waiting to be read.
+     */
+    private final int max;
+
+    /**
+     * Ctor.
+     * @param path The root
+     */
+    public WalkInThreads(final Path path) {
+        this(path, Integer.MAX_VALUE, dir -> true, item -> true);
+    }
+
+    /**
+     * Ctor.
+     * @param path The root
+     * @param depth Maximum depth, zero for the root only
+     * @param dirs Should the directory be listed?
+     * @param items Should the item be returned?
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public WalkInThreads(final Path path, final int depth,
+        final Func<? super Map.Entry<Path, BasicFileAttributes>, Boolean> dirs,
+        final Func<? super Map.Entry<Path, BasicFileAttributes>, Boolean> items
+    ) {
+        this(
+            path, depth, dirs, items,
+            // @checkstyle MagicNumber (1 line)
+            Runtime.getRuntime().availableProcessors(), 1024
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param path The root
+     * @param depth Maximum depth, zero for the root only
+     * @param dirs Should the directory be listed?
+     * @param items Should the item be returned?
+     * @param threads Number of threads
+     * @param max Maximum number of items waiting to be read
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public WalkInThreads(final Path path, final int depth,
+        final Func<? super Map.Entry<Path, BasicFileAttributes>, Boolean> dirs,
+        final Func<? super Map.Entry<Path, BasicFileAttributes>, Boolean> items,
+        final int threads, final int max) {
+        this.root = path;
+        this.depth = depth;
+        this.enter = dirs;
+        this.include = items;
+        this.threads = threads;
+        this.max = max;
+    }
+
+    @Override
+    public Iterator<Map.Entry<Path, BasicFileAttributes>> iterator() {
+        return new WalkInThreadsIterator(
+            this.root, this.depth, this.enter, this.include,
+            this.threads, this.max
+        );
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+import org.cactoos.map.MapEntry;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Walk through a file tree in many threads.
+ *
+ * <p>The walk starts on the first call to {@link #hasNext()}. Each
+ * directory is listed by its own task in a {@link ForkJoinPool} of
+ * {@code threads} threads, and found items are put into a queue of
+ * {@code max} items, where they wait to be read. When the queue is full,
+ * the tasks wait, by default as long as it takes. The pool is shut down
+ * when the last directory is listed.</p>
+ *
+ * <p>If {@code patience} is given and nobody reads the iterator for that
+ * long, the walk is abandoned: the tasks stop and the pool is shut down,
+ * and the iterator, if it's ever read again, fails with
+ * {@link IllegalStateException}.</p>
+ *
+ * <p>If a directory can't be read, the walk goes on, and the failure is
+ * thrown as {@link IllegalStateException} at the end of it.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+@SuppressWarnings("PMD.TooManyFields")
+public final class WalkInThreadsIterator implements
+    Iterator<Map.Entry<Path, BasicFileAttributes>> {
+
+    /**
+     * Wait for the reader as long as it takes.
+     */
+    private static final Duration FOREVER = Duration.ofMillis(Long.MAX_VALUE);
+
+    /**
+     * The root.
+     */
+    private final Path root;
+
+    /**
+     * Maximum depth.
+     */
+    private final int depth;
+
+    /**
+     * Should the directory be listed?
+     */
+    private final UncheckedFunc<? super Map.Entry<Path, BasicFileAttributes>,
+        Boolean> enter;
+
+    /**
+     * Should the item be returned?
+     */
+    private final UncheckedFunc<? super Map.Entry<Path, BasicFileAttributes>,
+        Boolean> include;
+
+    /**
+     * Number of threads.
+     */
+    private final int threads;
+
+    /**
+     * Found items, waiting to be read.
+     */
+    private final BlockingQueue<Map.Entry<Path, BasicFileAttributes>> found;
+
+    /**
+     * Marker of the end of the walk.
+     */
+    private final Map.Entry<Path, BasicFileAttributes> end;
+
+    /**
+     * Number of directories that are being listed or waiting for it.
+     */
+    private final AtomicInteger running;
+
+    /**
+     * The first failure.
+     */
+    private final AtomicReference<Exception> error;
+
+    /**
+     * How long to wait for the reader, in milliseconds.
+     */
+    private final long patience;
+
+    /**
+     * Is the walk abandoned by the reader?
+     */
+    private final AtomicBoolean abandoned;
+
+    /**
+     * The pool, or NULL if the walk didn't start.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * The next item, if it is taken from the queue.
+     */
+    private final Deque<Map.Entry<Path, BasicFileAttributes>> taken;
+
+    /**
+     * Ctor.
+     * @param path The root
+     * @param max Maximum depth, zero for the root only
+     * @param dirs Should the directory be listed?
+     * @param items Should the item be returned?
+     * @param thrds Number of threads
+     * @param waiting Maximum number of items waiting to be read
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public WalkInThreadsIterator(final Path path, final int max,
+        final Func<? super Map.Entry<Path, BasicFileAttributes>, Boolean> dirs,
+        final Func<? super Map.Entry<Path, BasicFileAttributes>, Boolean> items,
+        final int thrds, final int waiting) {
+        this(
+            path, max, dirs, items, thrds, waiting,
+            WalkInThreadsIterator.FOREVER
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param path The root
+     * @param max Maximum depth, zero for the root only
+     * @param dirs Should the directory be listed?
+     * @param items Should the item be returned?
+     * @param thrds Number of threads
+     * @param waiting Maximum number of items waiting to be read
+     * @param wait How long to wait for the reader before abandoning the walk
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public WalkInThreadsIterator(final Path path, final int max,
+        final Func<? super Map.Entry<Path, BasicFileAttributes>, Boolean> dirs,
+        final Func<? super Map.Entry<Path, BasicFileAttributes>, Boolean> items,
+        final int thrds, final int waiting, final Duration wait) {
+        this.root = path;
+        this.depth = max;
+        this.enter = new UncheckedFunc<>(dirs);
+        this.include = new UncheckedFunc<>(items);
+        this.threads = thrds;
+        this.found = new ArrayBlockingQueue<>(waiting);
+        this.end = new MapEntry<>(path, null);
+        this.running = new AtomicInteger();
+        this.error = new AtomicReference<>();
+        this.patience = wait.toMillis();
+        this.abandoned = new AtomicBoolean();
+        this.taken = new ArrayDeque<>(1);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.pool == null) {
+            this.pool = new ForkJoinPool(this.threads);
+            this.running.incrementAndGet();
+            this.pool.execute(() -> this.listed(this.root, 0, true));
+        }
+        if (this.taken.isEmpty()) {
+            this.taken.push(new Unchecked<>(this.found::take).value());
+        }
+        final boolean more = this.taken.peek() != this.end;
+        if (!more) {
+            this.found.add(this.taken.pop());
+            if (this.error.get() != null) {
+                throw new IllegalStateException(this.error.get());
+            }
+        }
+        return more;
+    }
+
+    @Override
+    public Map.Entry<Path, BasicFileAttributes> next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more files in the directory"
+            );
+        }
+        return this.taken.pop();
+    }
+
+    /**
+     * Visit a path and, if it's a directory, list it in a task.
+     * @param path The path
+     * @param level Its depth
+     * @param first Is it the root?
+     * @throws Exception If fails
+     */
+    private void visited(final Path path, final int level,
+        final boolean first) throws Exception {
+        final Map.Entry<Path, BasicFileAttributes> entry;
+        try {
+            entry = new MapEntry<>(
+                path,
+                Files.readAttributes(
+                    path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS
+                )
+            );
+        } catch (final NoSuchFileException ex) {
+            if (first) {
+                throw ex;
+            }
+            return;
+        }
+        if (this.include.apply(entry)) {
+            this.offered(entry);
+        }
+        if (entry.getValue().isDirectory()
+            && level < this.depth
+            && this.enter.apply(entry)) {
+            this.running.incrementAndGet();
+            this.pool.execute(() -> this.listed(path, level + 1, false));
+        }
+    }
+
+    /**
+     * Task that lists a directory, or visits the root.
+     * @param path The directory, or the root
+     * @param level Depth of its items
+     * @param first Is it the root?
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void listed(final Path path, final int level,
+        final boolean first) {
+        try {
+            if (first) {
+                this.visited(path, level, true);
+            } else {
+                try (
+                    DirectoryStream<Path> dir = Files.newDirectoryStream(path)
+                ) {
+                    final Iterator<Path> items = dir.iterator();
+                    while (!this.abandoned.get() && items.hasNext()) {
+                        this.visited(items.next(), level, false);
+                    }
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.error.compareAndSet(null, ex);
+        // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            this.error.compareAndSet(null, ex);
+        } finally {
+            if (this.running.decrementAndGet() == 0) {
+                this.pool.shutdown();
+                this.ended();
+            }
+        }
+    }
+
+    /**
+     * Put the item into the queue, unless the reader is gone.
+     * @param entry The item
+     * @throws Exception If the reader didn't take items for too long
+     */
+    private void offered(final Map.Entry<Path, BasicFileAttributes> entry)
+        throws Exception {
+        if (!this.abandoned.get()
+            && !this.found.offer(entry, this.patience, TimeUnit.MILLISECONDS)) {
+            this.abandoned.set(true);
+            throw this.timeout();
+        }
+    }
+
+    /**
+     * Put the end marker into the queue. If the reader is gone, or the
+     * thread is interrupted, the items the reader didn't take are dropped
+     * to make room for the marker, so it is always queued.
+     */
+    private void ended() {
+        boolean queued = false;
+        try {
+            queued = !this.abandoned.get() && this.found.offer(
+                this.end, this.patience, TimeUnit.MILLISECONDS
+            );
+            if (!queued) {
+                this.error.compareAndSet(null, this.timeout());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.error.compareAndSet(null, ex);
+        } finally {
+            if (!queued) {
+                this.found.clear();
+                this.found.add(this.end);
+            }
+        }
+    }
+
+    /**
+     * The failure of the abandoned walk.
+     * @return The failure
+     */
+    private TimeoutException timeout() {
+        return new TimeoutException(
+            String.format(
+                "Nobody read the walk of %s for %d ms, it's abandoned",
+                this.root, this.patience
+            )
+        );
+    }
+}
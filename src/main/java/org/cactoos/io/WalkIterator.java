@@ -0,0 +1,220 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.cactoos.Func;
+import org.cactoos.func.UncheckedFunc;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Lazy depth-first walk through a file tree.
+ *
+ * <p>The order is the same as of {@link Files#walk(Path,
+ * java.nio.file.FileVisitOption...)}: a directory comes before its
+ * content, and the root comes first. Nothing is listed before it is
+ * needed. Links are not followed.</p>
+ *
+ * <p>Each item is a path with its attributes, read once, when
+ * the path is visited. Directories which are deeper than {@code depth}
+ * or are not accepted by {@code enter} are not listed at all, so their
+ * subtrees are skipped. Items not accepted by {@code include} are
+ * visited, but not returned.</p>
+ *
+ * <p>A directory is listed at once, when the walk enters it, and its
+ * {@link DirectoryStream} is closed before any of its items is returned.
+ * So a walk keeps no files open, even if it is not read to the end,
+ * and it keeps in memory only the listings of the directories on the
+ * way from the root to the current path.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class WalkIterator implements
+    Iterator<Map.Entry<Path, BasicFileAttributes>> {
+
+    /**
+     * The root.
+     */
+    private final Path root;
+
+    /**
+     * Maximum depth.
+     */
+    private final int depth;
+
+    /**
+     * Should the directory be listed?
+     */
+    private final UncheckedFunc<? super Map.Entry<Path, BasicFileAttributes>,
+        Boolean> enter;
+
+    /**
+     * Should the item be returned?
+     */
+    private final UncheckedFunc<? super Map.Entry<Path, BasicFileAttributes>,
+        Boolean> include;
+
+    /**
+     * Iterators of the listed directories, the deepest first.
+     */
+    private final Deque<Iterator<Path>> levels;
+
+    /**
+     * The next item, if it is found.
+     */
+    private final Deque<Map.Entry<Path, BasicFileAttributes>> found;
+
+    /**
+     * Is the root visited?
+     */
+    private boolean started;
+
+    /**
+     * Ctor.
+     * @param path The root
+     * @param max Maximum depth, zero for the root only
+     * @param dirs Should the directory be listed?
+     * @param items Should the item be returned?
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public WalkIterator(final Path path, final int max,
+        final Func<? super Map.Entry<Path, BasicFileAttributes>, Boolean> dirs,
+        final Func<? super Map.Entry<Path, BasicFileAttributes>, Boolean> items
+    ) {
+        this.root = path;
+        this.depth = max;
+        this.enter = new UncheckedFunc<>(dirs);
+        this.include = new UncheckedFunc<>(items);
+        this.levels = new ArrayDeque<>(0);
+        this.found = new ArrayDeque<>(1);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.found.isEmpty()) {
+            final Map.Entry<Path, BasicFileAttributes> next = this.advance();
+            if (next != null) {
+                this.found.push(next);
+            }
+        }
+        return !this.found.isEmpty();
+    }
+
+    @Override
+    public Map.Entry<Path, BasicFileAttributes> next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more files in the directory"
+            );
+        }
+        return this.found.pop();
+    }
+
+    /**
+     * Visit paths until one is returned or the walk is over.
+     * @return The next item, or NULL at the end
+     */
+    private Map.Entry<Path, BasicFileAttributes> advance() {
+        Map.Entry<Path, BasicFileAttributes> next = null;
+        while (next == null && (!this.started || !this.levels.isEmpty())) {
+            final Path path;
+            if (this.started) {
+                final Iterator<Path> top = this.levels.peek();
+                if (!top.hasNext()) {
+                    this.levels.pop();
+                    continue;
+                }
+                path = top.next();
+            } else {
+                this.started = true;
+                path = this.root;
+            }
+            next = this.visit(path);
+        }
+        return next;
+    }
+
+    /**
+     * Visit a path.
+     * @param path The path
+     * @return The item, or NULL if it is not returned
+     */
+    private Map.Entry<Path, BasicFileAttributes> visit(final Path path) {
+        Map.Entry<Path, BasicFileAttributes> item = null;
+        try {
+            final Map.Entry<Path, BasicFileAttributes> entry = new MapEntry<>(
+                path,
+                Files.readAttributes(
+                    path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS
+                )
+            );
+            if (entry.getValue().isDirectory()
+                && this.levels.size() < this.depth
+                && this.enter.apply(entry)) {
+                this.levels.push(WalkIterator.listed(path).iterator());
+            }
+            if (this.include.apply(entry)) {
+                item = entry;
+            }
+        } catch (final NoSuchFileException ex) {
+            if (path.equals(this.root)) {
+                throw new IllegalStateException(ex);
+            }
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return item;
+    }
+
+    /**
+     * List a directory and close its stream.
+     * @param dir The directory
+     * @return Its items
+     * @throws IOException If fails
+     */
+    private static List<Path> listed(final Path dir) throws IOException {
+        final List<Path> items = new LinkedList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (final Path item : stream) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Input stream of data that is written by a task in another thread.
+ *
+ * <p>When the data ends, the task is checked, and if it failed, its
+ * failure is thrown as an {@link IOException}, so a broken writer
+ * never looks like a short, but complete, stream. Closing the stream
+ * before its end cancels the task.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class WrittenInputStream extends InputStream {
+
+    /**
+     * The stream the task writes to.
+     */
+    private final InputStream origin;
+
+    /**
+     * The task.
+     */
+    private final Future<?> task;
+
+    /**
+     * Ctor.
+     * @param input The stream the task writes to
+     * @param writing The task
+     */
+    public WrittenInputStream(final InputStream input,
+        final Future<?> writing) {
+        super();
+        this.origin = input;
+        this.task = writing;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return this.checked(this.origin.read());
+    }
+
+    @Override
+    public int read(final byte[] buf, final int off, final int len)
+        throws IOException {
+        return this.checked(this.origin.read(buf, off, len));
+    }
+
+    @Override
+    public long skip(final long num) throws IOException {
+        return this.origin.skip(num);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return this.origin.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.task.cancel(true);
+        this.origin.close();
+    }
+
+    /**
+     * Check the task at the end of the data.
+     * @param read Result of reading
+     * @return The same result
+     * @throws IOException If the task failed
+     */
+    private int checked(final int read) throws IOException {
+        if (read < 0) {
+            try {
+                this.task.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            } catch (final ExecutionException ex) {
+                throw new IOException("The writing task failed", ex);
+            }
+        }
+        return read;
+    }
+}
@@ -21,23 +21,38 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-
 package org.cactoos.io;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
+import org.cactoos.Func;
 import org.cactoos.Input;
-import org.cactoos.bytes.BytesOf;
 
 /**
  * Zip files and directory.
- * <br>
+ *
+ * <p>The archive is never kept in memory: it is written in another
+ * thread, through a pipe, as it is read, and files are copied in
+ * chunks. See {@link PipedInput}. To write it to a file, copy it:</p>
+ *
+ * <pre>{@code
+ * new LengthOf(new TeeInput(new Zip(dir), new OutputTo(file))).value();
+ * }</pre>
+ *
+ * <p>Files that are already compressed may be stored as they are,
+ * without spending time on deflating them again:</p>
+ *
+ * <pre>{@code
+ * new Zip(dir, Deflater.BEST_SPEED, path -> path.toString().endsWith(".jpg"));
+ * }</pre>
+ *
  * <br>There is no thread-safety guarantee.
  *
  * @since 0.29
@@ -50,35 +65,132 @@ public final class Zip implements Input {
      */
     private final Directory origin;
 
+    /**
+     * Compression level.
+     */
+    private final int level;
+
+    /**
+     * Should the file be stored without compression?
+     */
+    private final Func<? super Path, Boolean> stored;
+
+    /**
+     * Size of the buffer for copying files.
+     */
+    private final int size;
+
     /**
      * Ctor.
      *
      * @param origin Origin directory.
      */
     public Zip(final Directory origin) {
+        this(origin, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin directory.
+     * @param level Compression level, see {@link Deflater}
+     */
+    public Zip(final Directory origin, final int level) {
+        this(origin, level, path -> false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin directory.
+     * @param level Compression level, see {@link Deflater}
+     * @param stored Should the file be stored without compression?
+     */
+    public Zip(final Directory origin, final int level,
+        final Func<? super Path, Boolean> stored) {
+        // @checkstyle MagicNumber (1 line)
+        this(origin, level, stored, 16 << 10);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin Origin directory.
+     * @param level Compression level, see {@link Deflater}
+     * @param stored Should the file be stored without compression?
+     * @param max Size of the buffer for copying files
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Zip(final Directory origin, final int level,
+        final Func<? super Path, Boolean> stored, final int max) {
         this.origin = origin;
+        this.level = level;
+        this.stored = stored;
+        this.size = max;
     }
 
     @Override
     public InputStream stream() throws Exception {
-        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        return new PipedInput(this::write).stream();
+    }
+
+    /**
+     * Write the archive.
+     * @param out Where to write it
+     * @throws Exception If fails
+     */
+    private void write(final OutputStream out) throws Exception {
         try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.setLevel(this.level);
+            final byte[] buf = new byte[this.size];
             for (final Path path : this.origin) {
                 final File file = path.toFile();
                 final ZipEntry entry = new ZipEntry(
                     file.getPath()
                 );
+                if (file.isFile() && this.stored.apply(path)) {
+                    Zip.prepareStored(entry, file, buf);
+                }
                 zip.putNextEntry(entry);
                 if (file.isFile()) {
                     try (
                         FileInputStream input = new FileInputStream(file)
                     ) {
-                        zip.write(new BytesOf(new InputOf(input)).asBytes());
+                        for (int len = input.read(buf); len >= 0;
+                            len = input.read(buf)) {
+                            zip.write(buf, 0, len);
+                        }
                     }
                 }
                 zip.closeEntry();
             }
         }
-        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    /**
+     * Make an entry stored without compression.
+     *
+     * <p>The size and the checksum of a stored entry must be known
+     * before its content, so the file is read one more time.</p>
+     *
+     * @param entry The entry
+     * @param file The file
+     * @param buf The buffer
+     * @throws Exception If fails
+     */
+    private static void prepareStored(final ZipEntry entry, final File file,
+        final byte[] buf) throws Exception {
+        final CRC32 crc = new CRC32();
+        long length = 0L;
+        try (FileInputStream input = new FileInputStream(file)) {
+            for (int len = input.read(buf); len >= 0; len = input.read(buf)) {
+                crc.update(buf, 0, len);
+                length += len;
+            }
+        }
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(length);
+        entry.setCompressedSize(length);
+        entry.setCrc(crc.getValue());
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.util.concurrent.Executor;
+import org.cactoos.Func;
+
+/**
+ * Iterable that maps items in multiple threads.
+ *
+ * <p>Unlike {@link org.cactoos.experimental.Threads}, it doesn't submit
+ * all items at once: the source is read lazily and at most {@code max}
+ * items are being mapped at any moment. See
+ * {@link org.cactoos.iterator.MappedInThreads} for details.</p>
+ *
+ * <pre>{@code
+ * final Iterable<String> pages = new MappedInThreads<>(
+ *     executor, 16, url -> new TextOf(url).asString(), urls
+ * );
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <Y> Type of target item
+ * @since 0.53
+ */
+public final class MappedInThreads<Y> extends IterableEnvelope<Y> {
+
+    /**
+     * Ctor.
+     * @param exc The executor
+     * @param max Maximum number of items mapped at the same time
+     * @param fnc The function
+     * @param src Source iterable
+     * @param <X> Type of source item
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public <X> MappedInThreads(
+        final Executor exc,
+        final int max,
+        final Func<? super X, ? extends Y> fnc,
+        final Iterable<? extends X> src
+    ) {
+        this(exc, max, true, fnc, src);
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor
+     * @param max Maximum number of items mapped at the same time
+     * @param ordered Return the results in the order of the source?
+     * @param fnc The function
+     * @param src Source iterable
+     * @param <X> Type of source item
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public <X> MappedInThreads(
+        final Executor exc,
+        final int max,
+        final boolean ordered,
+        final Func<? super X, ? extends Y> fnc,
+        final Iterable<? extends X> src
+    ) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.MappedInThreads<X, Y>(
+                    exc, max, ordered, fnc, src.iterator()
+                )
+            )
+        );
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import org.cactoos.BiProc;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+
+/**
+ * Sorted iterable, for items that don't fit in memory.
+ *
+ * <p>See {@link org.cactoos.iterator.SortedOnDisk} for details.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 0.53
+ */
+public final class SortedOnDisk<T> extends IterableEnvelope<T> {
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param max Maximum number of items sorted in memory
+     * @param writer Writes one item
+     * @param reader Reads one item
+     * @param src The underlying iterable
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public SortedOnDisk(
+        final Comparator<? super T> cmp,
+        final int max,
+        final BiProc<? super T, ? super DataOutput> writer,
+        final Func<? super DataInput, ? extends T> reader,
+        final Iterable<? extends T> src
+    ) {
+        this(
+            () -> Paths.get(System.getProperty("java.io.tmpdir")),
+            cmp, max, writer, reader, src
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param dir Directory for the temporary files
+     * @param cmp The comparator
+     * @param max Maximum number of items sorted in memory
+     * @param writer Writes one item
+     * @param reader Reads one item
+     * @param src The underlying iterable
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public SortedOnDisk(
+        final Scalar<Path> dir,
+        final Comparator<? super T> cmp,
+        final int max,
+        final BiProc<? super T, ? super DataOutput> writer,
+        final Func<? super DataInput, ? extends T> reader,
+        final Iterable<? extends T> src
+    ) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.SortedOnDisk<>(
+                    dir, cmp, max, writer, reader, src.iterator()
+                )
+            )
+        );
+    }
+}
@@ -23,9 +23,19 @@
  */
 package org.cactoos.iterable;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import org.cactoos.iterator.Immutable;
+
 /**
  * Tail portion of the iterable.
  *
+ * <p>If the iterable is a {@link List} with {@link RandomAccess},
+ * its tail is read directly by index, without going through
+ * the rest of the list and without copying it.</p>
+ *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @param <T> Element type
@@ -40,7 +50,7 @@ public final class TailOf<T> extends IterableEnvelope<T>  {
      */
     @SafeVarargs
     public TailOf(final int num, final T... src) {
-        this(num, new IterableOf<>(src));
+        this(num, Arrays.asList(src));
     }
 
     /**
@@ -51,9 +61,26 @@ public final class TailOf<T> extends IterableEnvelope<T>  {
     public TailOf(final int num, final Iterable<? extends T> iterable) {
         super(
             new IterableOf<>(
-                () -> new org.cactoos.iterator.TailOf<>(
-                    num, iterable.iterator()
-                )
+                () -> {
+                    final Iterator<? extends T> tail;
+                    if (iterable instanceof List
+                        && iterable instanceof RandomAccess) {
+                        final List<? extends T> list =
+                            (List<? extends T>) iterable;
+                        final int size = list.size();
+                        tail = new Immutable<>(
+                            list.subList(
+                                size - Math.max(0, Math.min(num, size)),
+                                size
+                            ).iterator()
+                        );
+                    } else {
+                        tail = new org.cactoos.iterator.TailOf<>(
+                            num, iterable.iterator()
+                        );
+                    }
+                    return tail;
+                }
             )
         );
     }
@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Decorator that reports the wrapped {@link Spliterator} as
+ * {@link Spliterator#IMMUTABLE}.
+ *
+ * <p>All other characteristics, like {@link Spliterator#SIZED} and
+ * {@link Spliterator#SUBSIZED}, and the splitting are taken from the
+ * wrapped spliterator, so parallel streams split the source as well
+ * as they split the original one. The source must not be changed
+ * by its owner while it is traversed.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 0.53
+ */
+public final class ImmutableSpliterator<T> implements Spliterator<T> {
+
+    /**
+     * Decorated spliterator.
+     */
+    private final Spliterator<? extends T> origin;
+
+    /**
+     * Ctor.
+     * @param spliterator Spliterator to make immutable
+     */
+    public ImmutableSpliterator(final Spliterator<? extends T> spliterator) {
+        this.origin = spliterator;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        return this.origin.tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        this.origin.forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final Spliterator<? extends T> prefix = this.origin.trySplit();
+        final Spliterator<T> split;
+        if (prefix == null) {
+            split = null;
+        } else {
+            split = new ImmutableSpliterator<>(prefix);
+        }
+        return split;
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.origin.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return this.origin.characteristics() & ~Spliterator.CONCURRENT
+            | Spliterator.IMMUTABLE;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Comparator<? super T> getComparator() {
+        return (Comparator<? super T>) this.origin.getComparator();
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+}
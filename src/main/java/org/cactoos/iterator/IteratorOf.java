@@ -25,7 +25,6 @@ package org.cactoos.iterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@link Iterator} that returns the elements.
@@ -45,7 +44,7 @@ public final class IteratorOf<X> implements Iterator<X> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -54,12 +53,11 @@ public final class IteratorOf<X> implements Iterator<X> {
     @SafeVarargs
     public IteratorOf(final X... items) {
         this.list = items;
-        this.position = new AtomicInteger(0);
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.list.length;
+        return this.position < this.list.length;
     }
 
     @Override
@@ -69,6 +67,8 @@ public final class IteratorOf<X> implements Iterator<X> {
                 "The iterator doesn't have any more items"
             );
         }
-        return this.list[this.position.getAndIncrement()];
+        final X item = this.list[this.position];
+        this.position += 1;
+        return item;
     }
 }
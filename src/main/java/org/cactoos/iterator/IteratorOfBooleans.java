@@ -25,7 +25,6 @@ package org.cactoos.iterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@link Iterator} that returns the {@code boolean}s as {@link Boolean}s.
@@ -43,7 +42,7 @@ public final class IteratorOfBooleans implements Iterator<Boolean> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -51,12 +50,11 @@ public final class IteratorOfBooleans implements Iterator<Boolean> {
      */
     public IteratorOfBooleans(final boolean... items) {
         this.list = items;
-        this.position = new AtomicInteger(0);
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.list.length;
+        return this.position < this.list.length;
     }
 
     @Override
@@ -66,6 +64,8 @@ public final class IteratorOfBooleans implements Iterator<Boolean> {
                 "The iterator doesn't have any more items"
             );
         }
-        return this.list[this.position.getAndIncrement()];
+        final Boolean item = this.list[this.position];
+        this.position += 1;
+        return item;
     }
 }
@@ -25,7 +25,6 @@ package org.cactoos.iterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Bytes;
 import org.cactoos.Text;
 import org.cactoos.bytes.BytesOf;
@@ -48,7 +47,7 @@ public final class IteratorOfBytes implements Iterator<Byte> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -80,12 +79,11 @@ public final class IteratorOfBytes implements Iterator<Byte> {
      */
     public IteratorOfBytes(final byte... itms) {
         this.items = itms;
-        this.position = new AtomicInteger(0);
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.items.length;
+        return this.position < this.items.length;
     }
 
     @Override
@@ -95,6 +93,8 @@ public final class IteratorOfBytes implements Iterator<Byte> {
                 "The iterator doesn't have any more items"
             );
         }
-        return this.items[this.position.getAndIncrement()];
+        final Byte item = this.items[this.position];
+        this.position += 1;
+        return item;
     }
 }
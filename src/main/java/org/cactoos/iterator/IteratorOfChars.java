@@ -25,7 +25,6 @@ package org.cactoos.iterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Text;
 
 /**
@@ -44,7 +43,7 @@ public final class IteratorOfChars implements Iterator<Character> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -68,12 +67,11 @@ public final class IteratorOfChars implements Iterator<Character> {
      */
     public IteratorOfChars(final char... items) {
         this.list = items;
-        this.position = new AtomicInteger(0);
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.list.length;
+        return this.position < this.list.length;
     }
 
     @Override
@@ -83,6 +81,8 @@ public final class IteratorOfChars implements Iterator<Character> {
                 "The iterator doesn't have any more items"
             );
         }
-        return this.list[this.position.getAndIncrement()];
+        final Character item = this.list[this.position];
+        this.position += 1;
+        return item;
     }
 }
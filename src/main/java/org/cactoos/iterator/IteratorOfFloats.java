@@ -25,7 +25,6 @@ package org.cactoos.iterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@link Iterator} that returns the {@code float}s as {@link Float}s.
@@ -43,7 +42,7 @@ public final class IteratorOfFloats implements Iterator<Float> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -51,12 +50,11 @@ public final class IteratorOfFloats implements Iterator<Float> {
      */
     public IteratorOfFloats(final float... itms) {
         this.items = itms;
-        this.position = new AtomicInteger(0);
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.items.length;
+        return this.position < this.items.length;
     }
 
     @Override
@@ -66,6 +64,8 @@ public final class IteratorOfFloats implements Iterator<Float> {
                 "The iterator doesn't have any more items"
             );
         }
-        return this.items[this.position.getAndIncrement()];
+        final Float item = this.items[this.position];
+        this.position += 1;
+        return item;
     }
 }
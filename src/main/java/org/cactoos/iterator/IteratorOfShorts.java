@@ -25,7 +25,6 @@ package org.cactoos.iterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@link Iterator} that returns the {@code short}s as {@link Short}s.
@@ -45,7 +44,7 @@ public final class IteratorOfShorts implements Iterator<Short> {
     /**
      * Current position.
      */
-    private final AtomicInteger position;
+    private int position;
 
     /**
      * Ctor.
@@ -53,12 +52,11 @@ public final class IteratorOfShorts implements Iterator<Short> {
      */
     public IteratorOfShorts(final short... itms) {
         this.items = itms;
-        this.position = new AtomicInteger(0);
     }
 
     @Override
     public boolean hasNext() {
-        return this.position.intValue() < this.items.length;
+        return this.position < this.items.length;
     }
 
     @Override
@@ -68,6 +66,8 @@ public final class IteratorOfShorts implements Iterator<Short> {
                 "The iterator doesn't have any more items"
             );
         }
-        return this.items[this.position.getAndIncrement()];
+        final Short item = this.items[this.position];
+        this.position += 1;
+        return item;
     }
 }
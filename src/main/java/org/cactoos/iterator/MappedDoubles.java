@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Mapped iterator of {@code double}s.
+ *
+ * <p>Comparing to {@link Mapped}, it doesn't box values, if they are
+ * read by {@link #nextDouble()}. Use it together with
+ * {@link IteratorOfDoubles}, {@link FilteredDoubles} and
+ * {@link org.cactoos.scalar.FoldedDoubles} to build numeric pipelines
+ * without allocations.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class MappedDoubles implements PrimitiveIterator.OfDouble {
+
+    /**
+     * The func.
+     */
+    private final DoubleUnaryOperator func;
+
+    /**
+     * Source iterator.
+     */
+    private final PrimitiveIterator.OfDouble origin;
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param items Items to map
+     */
+    public MappedDoubles(final DoubleUnaryOperator fnc, final double... items) {
+        this(fnc, new IteratorOfDoubles(items));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param iterator Source iterator
+     */
+    public MappedDoubles(final DoubleUnaryOperator fnc,
+        final PrimitiveIterator.OfDouble iterator) {
+        this.func = fnc;
+        this.origin = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.origin.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        return this.func.applyAsDouble(this.origin.nextDouble());
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.cactoos.Func;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Iterator that maps items in multiple threads.
+ *
+ * <p>Items are pulled from the source lazily and at most {@code max}
+ * of them are being mapped at any moment, so memory usage doesn't
+ * depend on the size of the source. In ordered mode the results are
+ * returned in the order of the source; in unordered mode they are
+ * returned as soon as they are ready.</p>
+ *
+ * <p>If the function fails, its original exception is rethrown
+ * from {@link #next()}, wrapped the same way as in {@link Mapped}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of source item
+ * @param <Y> Type of target item
+ * @since 0.53
+ */
+public final class MappedInThreads<X, Y> implements Iterator<Y> {
+
+    /**
+     * The executor.
+     */
+    private final Executor executor;
+
+    /**
+     * The function.
+     */
+    private final Func<? super X, ? extends Y> func;
+
+    /**
+     * Source iterator.
+     */
+    private final Iterator<? extends X> origin;
+
+    /**
+     * Maximum number of items mapped at the same time.
+     */
+    private final int max;
+
+    /**
+     * Return the results in the order of the source?
+     */
+    private final boolean ordered;
+
+    /**
+     * Submitted tasks, in the order of the source.
+     */
+    private final Queue<Future<Y>> submitted;
+
+    /**
+     * Finished tasks, in the order of completion.
+     */
+    private final BlockingQueue<Future<Y>> finished;
+
+    /**
+     * Number of tasks submitted, but not returned yet.
+     */
+    private int running;
+
+    /**
+     * Ctor.
+     * @param exc The executor
+     * @param max Maximum number of items mapped at the same time
+     * @param fnc The function
+     * @param src Source iterator
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public MappedInThreads(
+        final Executor exc,
+        final int max,
+        final Func<? super X, ? extends Y> fnc,
+        final Iterator<? extends X> src
+    ) {
+        this(exc, max, true, fnc, src);
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor
+     * @param max Maximum number of items mapped at the same time
+     * @param ordered Return the results in the order of the source?
+     * @param fnc The function
+     * @param src Source iterator
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public MappedInThreads(
+        final Executor exc,
+        final int max,
+        final boolean ordered,
+        final Func<? super X, ? extends Y> fnc,
+        final Iterator<? extends X> src
+    ) {
+        this.executor = exc;
+        this.max = MappedInThreads.positive(max);
+        this.ordered = ordered;
+        this.func = fnc;
+        this.origin = src;
+        this.submitted = new ArrayDeque<>(this.max);
+        this.finished = new LinkedBlockingQueue<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        this.submit();
+        return this.running > 0;
+    }
+
+    @Override
+    public Y next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final Future<Y> future;
+        if (this.ordered) {
+            future = this.submitted.element();
+        } else {
+            future = new Unchecked<>(this::taken).value();
+        }
+        final Y result = new Unchecked<>(() -> this.result(future)).value();
+        this.submit();
+        return result;
+    }
+
+    /**
+     * Take the next finished task.
+     * @return The task
+     * @throws InterruptedException If interrupted while waiting
+     */
+    private Future<Y> taken() throws InterruptedException {
+        try {
+            return this.finished.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw ex;
+        }
+    }
+
+    /**
+     * Wait for the result of the task and forget the task, unless
+     * the wait was interrupted.
+     * @param future The task
+     * @return The result
+     * @throws Exception The failure of the function
+     */
+    private Y result(final Future<Y> future) throws Exception {
+        try {
+            final Y result = future.get();
+            this.returned();
+            return result;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw ex;
+        } catch (final ExecutionException ex) {
+            this.returned();
+            final Throwable cause = ex.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Forget the task that returned its result.
+     */
+    private void returned() {
+        if (this.ordered) {
+            this.submitted.remove();
+        }
+        this.running -= 1;
+    }
+
+    /**
+     * Submit tasks until the limit is reached or the source is empty.
+     * A task is counted only when the executor accepts it, so if it
+     * is rejected, the exception goes to the caller and the results
+     * of the tasks submitted before it can still be read.
+     */
+    private void submit() {
+        while (this.running < this.max && this.origin.hasNext()) {
+            final X item = this.origin.next();
+            final FutureTask<Y> task;
+            if (this.ordered) {
+                task = new FutureTask<>(() -> this.func.apply(item));
+            } else {
+                task = new FutureTask<Y>(() -> this.func.apply(item)) {
+                    @Override
+                    protected void done() {
+                        MappedInThreads.this.finished.add(this);
+                    }
+                };
+            }
+            this.executor.execute(task);
+            if (this.ordered) {
+                this.submitted.add(task);
+            }
+            this.running += 1;
+        }
+    }
+
+    /**
+     * Check the maximum number of tasks.
+     * @param max Maximum number of tasks
+     * @return The same number, if it's positive
+     */
+    private static int positive(final int max) {
+        if (max < 1) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Maximum number of tasks must be positive, %d given",
+                    max
+                )
+            );
+        }
+        return max;
+    }
+}
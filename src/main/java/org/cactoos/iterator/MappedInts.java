@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Mapped iterator of {@code int}s.
+ *
+ * <p>Comparing to {@link Mapped}, it doesn't box values, if they are
+ * read by {@link #nextInt()}. Use it together with
+ * {@link IteratorOfInts}, {@link FilteredInts} and
+ * {@link org.cactoos.scalar.FoldedInts} to build numeric pipelines
+ * without allocations.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class MappedInts implements PrimitiveIterator.OfInt {
+
+    /**
+     * The func.
+     */
+    private final IntUnaryOperator func;
+
+    /**
+     * Source iterator.
+     */
+    private final PrimitiveIterator.OfInt origin;
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param items Items to map
+     */
+    public MappedInts(final IntUnaryOperator fnc, final int... items) {
+        this(fnc, new IteratorOfInts(items));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param iterator Source iterator
+     */
+    public MappedInts(final IntUnaryOperator fnc,
+        final PrimitiveIterator.OfInt iterator) {
+        this.func = fnc;
+        this.origin = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.origin.hasNext();
+    }
+
+    @Override
+    public int nextInt() {
+        return this.func.applyAsInt(this.origin.nextInt());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Mapped iterator of {@code long}s.
+ *
+ * <p>Comparing to {@link Mapped}, it doesn't box values, if they are
+ * read by {@link #nextLong()}. Use it together with
+ * {@link IteratorOfLongs}, {@link FilteredLongs} and
+ * {@link org.cactoos.scalar.FoldedLongs} to build numeric pipelines
+ * without allocations.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class MappedLongs implements PrimitiveIterator.OfLong {
+
+    /**
+     * The func.
+     */
+    private final LongUnaryOperator func;
+
+    /**
+     * Source iterator.
+     */
+    private final PrimitiveIterator.OfLong origin;
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param items Items to map
+     */
+    public MappedLongs(final LongUnaryOperator fnc, final long... items) {
+        this(fnc, new IteratorOfLongs(items));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param iterator Source iterator
+     */
+    public MappedLongs(final LongUnaryOperator fnc,
+        final PrimitiveIterator.OfLong iterator) {
+        this.func = fnc;
+        this.origin = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.origin.hasNext();
+    }
+
+    @Override
+    public long nextLong() {
+        return this.func.applyAsLong(this.origin.nextLong());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Merge of sorted iterators.
+ *
+ * <p>Each source iterator must already be sorted by the same comparator.
+ * The result is sorted too. Only the current item of each source is
+ * kept in memory, in a heap, so each item costs {@code O(log k)} for
+ * {@code k} sources. Equal items are returned in the order of their
+ * sources, which keeps the merge stable.</p>
+ *
+ * <pre>{@code
+ * new Merged<>(
+ *     Comparator.naturalOrder(),
+ *     new IteratorOf<>(1, 4, 7),
+ *     new IteratorOf<>(2, 3, 9)
+ * );
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 0.53
+ */
+public final class Merged<T> implements Iterator<T> {
+
+    /**
+     * Source iterators.
+     */
+    private final Iterable<? extends Iterator<? extends T>> sources;
+
+    /**
+     * Sources, in their original order, once the heap is built.
+     */
+    private final List<Iterator<? extends T>> iterators;
+
+    /**
+     * Current items with the positions of their sources.
+     */
+    private final PriorityQueue<Map.Entry<T, Integer>> heap;
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param srcs Sorted source iterators
+     */
+    @SafeVarargs
+    public Merged(
+        final Comparator<? super T> cmp,
+        final Iterator<? extends T>... srcs
+    ) {
+        this(cmp, new IterableOf<>(srcs));
+    }
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param srcs Sorted source iterators
+     */
+    public Merged(
+        final Comparator<? super T> cmp,
+        final Iterable<? extends Iterator<? extends T>> srcs
+    ) {
+        this.sources = srcs;
+        this.iterators = new ArrayList<>(0);
+        this.heap = new PriorityQueue<>(
+            Comparator.<Map.Entry<T, Integer>, T>comparing(
+                Map.Entry::getKey, cmp
+            ).thenComparing(Map.Entry::getValue)
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.iterators.isEmpty()) {
+            for (final Iterator<? extends T> source : this.sources) {
+                this.iterators.add(source);
+                this.advance(this.iterators.size() - 1);
+            }
+        }
+        return !this.heap.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final Map.Entry<T, Integer> head = this.heap.remove();
+        this.advance(head.getValue());
+        return head.getKey();
+    }
+
+    /**
+     * Put the next item of the source into the heap, if there is one.
+     * @param position Position of the source
+     */
+    private void advance(final int position) {
+        final Iterator<? extends T> source = this.iterators.get(position);
+        if (source.hasNext()) {
+            this.heap.add(new MapEntry<>(source.next(), position));
+        }
+    }
+}
@@ -23,9 +23,9 @@
  */
 package org.cactoos.iterator;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Unchecked;
@@ -33,6 +33,9 @@ import org.cactoos.scalar.Unchecked;
 /**
  * Sorted iterator.
  *
+ * <p>All items are kept in memory. Use {@link SortedOnDisk} if they
+ * don't fit.</p>
+ *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @param <T> Element type
@@ -68,7 +71,7 @@ public final class Sorted<T> implements Iterator<T> {
         this.scalar = new Unchecked<>(
             new Sticky<>(
                 () -> {
-                    final List<T> items = new LinkedList<>();
+                    final List<T> items = new ArrayList<>(0);
                     while (iterator.hasNext()) {
                         items.add(iterator.next());
                     }
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import org.cactoos.map.MapEntry;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Sorted iterator, which sorts only as far as it is read.
+ *
+ * <p>All items are read into a heap without sorting them, and each
+ * call to {@link #next()} takes one more item from it in
+ * {@code O(log n)}. It is faster than {@link Sorted} when only a few
+ * first items are needed, and slower when all of them are. The order of
+ * equal items is kept.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 0.53
+ */
+public final class SortedLazily<T> implements Iterator<T> {
+
+    /**
+     * Heap of items with their positions in the source.
+     */
+    private final Unchecked<PriorityQueue<Map.Entry<T, Long>>> heap;
+
+    /**
+     * Ctor.
+     *
+     * <p>If you're using this ctor you must be sure that type {@code T}
+     * implements {@link Comparable} interface. Otherwise, there will be
+     * a type casting exception in runtime.</p>
+     *
+     * @param iterator The underlying iterator
+     */
+    @SuppressWarnings("unchecked")
+    public SortedLazily(final Iterator<? extends T> iterator) {
+        this((Comparator<T>) Comparator.naturalOrder(), iterator);
+    }
+
+    /**
+     * Ctor.
+     * @param cmp The comparator
+     * @param iterator The underlying iterator
+     */
+    public SortedLazily(
+        final Comparator<? super T> cmp,
+        final Iterator<? extends T> iterator
+    ) {
+        this.heap = new Unchecked<>(
+            new Sticky<>(
+                () -> {
+                    final PriorityQueue<Map.Entry<T, Long>> queue =
+                        new PriorityQueue<>(
+                            Comparator.<Map.Entry<T, Long>, T>comparing(
+                                Map.Entry::getKey, cmp
+                            ).thenComparing(Map.Entry::getValue)
+                        );
+                    long position = 0L;
+                    while (iterator.hasNext()) {
+                        queue.add(new MapEntry<>(iterator.next(), position));
+                        position += 1L;
+                    }
+                    return queue;
+                }
+            )
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.heap.value().isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return this.heap.value().poll().getKey();
+    }
+}
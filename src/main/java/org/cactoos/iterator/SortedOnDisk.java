@@ -0,0 +1,203 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import org.cactoos.BiProc;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.io.TempFile;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Sorted iterator, for items that don't fit in memory.
+ *
+ * <p>The source is read in runs of at most {@code max} items. Each run
+ * is sorted in memory and written to a {@link TempFile} with the given
+ * writer. The runs are then merged lazily through {@link Merged}, reading
+ * them back with the given reader, so at most {@code max} items are kept
+ * in memory while sorting and one item per run while merging. If the
+ * whole source fits into one run, nothing is written to disk.</p>
+ *
+ * <pre>{@code
+ * new SortedOnDisk<String>(
+ *     Comparator.naturalOrder(),
+ *     100_000,
+ *     (item, output) -> output.writeUTF(item),
+ *     DataInput::readUTF,
+ *     lines
+ * );
+ * }</pre>
+ *
+ * <p>Each temporary file is deleted as soon as its run is read to the end,
+ * so the files are left behind if the iteration is not finished.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 0.53
+ */
+public final class SortedOnDisk<T> implements Iterator<T> {
+
+    /**
+     * Sorted one.
+     */
+    private final Unchecked<Iterator<T>> scalar;
+
+    /**
+     * Ctor.
+     *
+     * <p>The temporary files are created in the directory denoted by
+     * the system property {@code java.io.tmpdir}.</p>
+     *
+     * @param cmp The comparator
+     * @param max Maximum number of items sorted in memory
+     * @param writer Writes one item
+     * @param reader Reads one item
+     * @param iterator The underlying iterator
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public SortedOnDisk(
+        final Comparator<? super T> cmp,
+        final int max,
+        final BiProc<? super T, ? super DataOutput> writer,
+        final Func<? super DataInput, ? extends T> reader,
+        final Iterator<? extends T> iterator
+    ) {
+        this(
+            () -> Paths.get(System.getProperty("java.io.tmpdir")),
+            cmp, max, writer, reader, iterator
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param dir Directory for the temporary files
+     * @param cmp The comparator
+     * @param max Maximum number of items sorted in memory
+     * @param writer Writes one item
+     * @param reader Reads one item
+     * @param iterator The underlying iterator
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public SortedOnDisk(
+        final Scalar<Path> dir,
+        final Comparator<? super T> cmp,
+        final int max,
+        final BiProc<? super T, ? super DataOutput> writer,
+        final Func<? super DataInput, ? extends T> reader,
+        final Iterator<? extends T> iterator
+    ) {
+        this.scalar = new Unchecked<>(
+            new Sticky<>(
+                SortedOnDisk.sorting(dir, cmp, max, writer, reader, iterator)
+            )
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.scalar.value().hasNext();
+    }
+
+    @Override
+    public T next() {
+        return this.scalar.value().next();
+    }
+
+    /**
+     * Sorting of the items, in memory or in runs on disk.
+     * @param dir Directory for the temporary files
+     * @param cmp The comparator
+     * @param max Maximum number of items sorted in memory
+     * @param writer Writes one item
+     * @param reader Reads one item
+     * @param iterator The underlying iterator
+     * @param <T> Type of item
+     * @return The sorting, which returns sorted items
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static <T> Scalar<Iterator<T>> sorting(
+        final Scalar<Path> dir,
+        final Comparator<? super T> cmp,
+        final int max,
+        final BiProc<? super T, ? super DataOutput> writer,
+        final Func<? super DataInput, ? extends T> reader,
+        final Iterator<? extends T> iterator
+    ) {
+        if (max < 1) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Maximum number of items in memory must be positive, %d given",
+                    max
+                )
+            );
+        }
+        return () -> {
+            final List<Iterator<T>> runs = new LinkedList<>();
+            final List<T> items = new ArrayList<>(0);
+            Iterator<T> sorted = null;
+            while (sorted == null) {
+                items.clear();
+                while (items.size() < max && iterator.hasNext()) {
+                    items.add(iterator.next());
+                }
+                items.sort(cmp);
+                if (runs.isEmpty() && !iterator.hasNext()) {
+                    sorted = items.iterator();
+                } else {
+                    final TempFile file = new TempFile(
+                        dir, "cactoos", ".run"
+                    );
+                    try (DataOutputStream output = new DataOutputStream(
+                        new BufferedOutputStream(
+                            Files.newOutputStream(file.value())
+                        )
+                    )) {
+                        for (final T item : items) {
+                            writer.exec(item, output);
+                        }
+                    }
+                    runs.add(new Spilled<>(file, items.size(), reader));
+                    if (!iterator.hasNext()) {
+                        sorted = new Merged<>(cmp, runs);
+                    }
+                }
+            }
+            return sorted;
+        };
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.cactoos.Func;
+import org.cactoos.io.TempFile;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Items spilled to a temporary file.
+ *
+ * <p>The file is deleted as soon as the last item is read.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 0.53
+ */
+final class Spilled<T> implements Iterator<T> {
+
+    /**
+     * The file.
+     */
+    private final TempFile file;
+
+    /**
+     * Stream of the file, opened on first read.
+     */
+    private final Unchecked<DataInputStream> stream;
+
+    /**
+     * Reads one item.
+     */
+    private final Func<? super DataInput, ? extends T> reader;
+
+    /**
+     * Items left.
+     */
+    private long left;
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param count Number of items in the file
+     * @param reader Reads one item
+     */
+    Spilled(
+        final TempFile file,
+        final long count,
+        final Func<? super DataInput, ? extends T> reader
+    ) {
+        this.file = file;
+        this.left = count;
+        this.reader = reader;
+        this.stream = new Unchecked<>(
+            new Sticky<>(
+                () -> new DataInputStream(
+                    new BufferedInputStream(
+                        Files.newInputStream(file.value())
+                    )
+                )
+            )
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.left > 0L;
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final DataInputStream input = this.stream.value();
+        final T item = new Unchecked<T>(() -> this.reader.apply(input)).value();
+        this.left -= 1L;
+        if (this.left == 0L) {
+            new Unchecked<>(
+                () -> {
+                    input.close();
+                    this.file.close();
+                    return true;
+                }
+            ).value();
+        }
+        return item;
+    }
+}
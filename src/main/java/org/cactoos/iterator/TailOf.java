@@ -23,37 +23,64 @@
  */
 package org.cactoos.iterator;
 
+import java.util.ArrayDeque;
 import java.util.Iterator;
-import org.cactoos.iterable.HeadOf;
-import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Reversed;
+import java.util.Queue;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * Tail portion of the iterator.
  *
+ * <p>The source is read once, through a ring buffer that keeps only
+ * the last {@code num} items, so memory doesn't depend on the length
+ * of the source. Nothing is read until the first call to
+ * {@link #hasNext()} or {@link #next()}.</p>
+ *
  * <p>
  * There is no thread-safety guarantee.
  * </p>
  * @param <T> Element type
  * @since 0.31
  */
-public final class TailOf<T> extends IteratorEnvelope<T> {
+public final class TailOf<T> implements Iterator<T> {
+
+    /**
+     * Tail items.
+     */
+    private final Unchecked<Iterator<T>> scalar;
+
     /**
      * Ctor.
      * @param num Number of tail elements
      * @param iterator Decorated iterator
      */
-    @SuppressWarnings({ "unchecked", "cast" })
     public TailOf(final int num, final Iterator<? extends T> iterator) {
-        super(
-            (Iterator<T>) new Reversed<>(
-                new HeadOf<>(
-                    num,
-                    new Reversed<>(
-                        new IterableOf<>(iterator)
-                    )
-                )
-            ).iterator()
+        this.scalar = new Unchecked<>(
+            new Sticky<>(
+                () -> {
+                    final Queue<T> ring = new ArrayDeque<>(
+                        Math.max(1, Math.min(num, 1024))
+                    );
+                    while (num > 0 && iterator.hasNext()) {
+                        if (ring.size() == num) {
+                            ring.remove();
+                        }
+                        ring.add(iterator.next());
+                    }
+                    return new Immutable<>(ring.iterator());
+                }
+            )
         );
     }
+
+    @Override
+    public boolean hasNext() {
+        return this.scalar.value().hasNext();
+    }
+
+    @Override
+    public T next() {
+        return this.scalar.value().next();
+    }
 }
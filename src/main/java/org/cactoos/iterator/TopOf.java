@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import org.cactoos.map.MapEntry;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * First items of the sorted iterator.
+ *
+ * <p>The result is the same as of {@link HeadOf} over {@link Sorted},
+ * but only {@code num} items are kept in memory, in a bounded heap, and
+ * the source is processed in {@code O(n log num)}. Use a reversed
+ * comparator to get the biggest items instead of the smallest.</p>
+ *
+ * <pre>{@code
+ * new TopOf<>(3, Comparator.reverseOrder(), scores);
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> Element type
+ * @since 0.53
+ */
+public final class TopOf<T> implements Iterator<T> {
+
+    /**
+     * Top items.
+     */
+    private final Unchecked<Iterator<T>> scalar;
+
+    /**
+     * Ctor.
+     *
+     * <p>If you're using this ctor you must be sure that type {@code T}
+     * implements {@link Comparable} interface. Otherwise, there will be
+     * a type casting exception in runtime.</p>
+     *
+     * @param num Number of items
+     * @param iterator The underlying iterator
+     */
+    @SuppressWarnings("unchecked")
+    public TopOf(final int num, final Iterator<? extends T> iterator) {
+        this(num, (Comparator<T>) Comparator.naturalOrder(), iterator);
+    }
+
+    /**
+     * Ctor.
+     * @param num Number of items
+     * @param cmp The comparator
+     * @param iterator The underlying iterator
+     */
+    public TopOf(
+        final int num,
+        final Comparator<? super T> cmp,
+        final Iterator<? extends T> iterator
+    ) {
+        this.scalar = new Unchecked<>(
+            new Sticky<>(
+                () -> {
+                    final Comparator<Map.Entry<T, Long>> order =
+                        Comparator.<Map.Entry<T, Long>, T>comparing(
+                            Map.Entry::getKey, cmp
+                        ).thenComparing(Map.Entry::getValue);
+                    final PriorityQueue<Map.Entry<T, Long>> heap =
+                        new PriorityQueue<>(
+                            Math.max(1, Math.min(num, 1024)),
+                            order.reversed()
+                        );
+                    long position = 0L;
+                    while (num > 0 && iterator.hasNext()) {
+                        final Map.Entry<T, Long> entry = new MapEntry<>(
+                            iterator.next(), position
+                        );
+                        position += 1L;
+                        if (heap.size() < num) {
+                            heap.add(entry);
+                        } else if (order.compare(entry, heap.peek()) < 0) {
+                            heap.poll();
+                            heap.add(entry);
+                        }
+                    }
+                    final List<Map.Entry<T, Long>> entries =
+                        new ArrayList<>(heap);
+                    entries.sort(order);
+                    final List<T> items = new ArrayList<>(entries.size());
+                    for (final Map.Entry<T, Long> entry : entries) {
+                        items.add(entry.getKey());
+                    }
+                    return items.iterator();
+                }
+            )
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.scalar.value().hasNext();
+    }
+
+    @Override
+    public T next() {
+        return this.scalar.value().next();
+    }
+}
@@ -23,14 +23,23 @@
  */
 package org.cactoos.list;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Spliterator;
+import org.cactoos.iterator.ImmutableSpliterator;
 
 /**
  * Decorator that doesn't allow mutations of the wrapped {@link List}.
  *
+ * <p>It is a view: neither the wrapped list nor the array it is made
+ * of is copied, and {@link #subList(int, int)} is a view too. Its
+ * {@link Spliterator} is {@link Spliterator#IMMUTABLE} and keeps
+ * the {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}
+ * characteristics of the wrapped list.</p>
+ *
  * <p>There is no thread-safety guarantee.</p>
  *
  * @param <T> Element type
@@ -51,6 +60,15 @@ public final class Immutable<T> implements List<T> {
      */
     private final List<? extends T> list;
 
+    /**
+     * Ctor.
+     * @param array Source array
+     */
+    @SafeVarargs
+    public Immutable(final T... array) {
+        this(Arrays.asList(array));
+    }
+
     /**
      * Ctor.
      * @param src Source collection
@@ -79,6 +97,11 @@ public final class Immutable<T> implements List<T> {
         return new org.cactoos.iterator.Immutable<>(this.list.iterator());
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ImmutableSpliterator<>(this.list.spliterator());
+    }
+
     @Override
     public Object[] toArray() {
         return this.list.toArray();
@@ -23,20 +23,27 @@
  */
 package org.cactoos.list;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.RandomAccess;
 import org.cactoos.iterable.IterableOf;
 
 /**
  * Implementation of {@link List}.
  *
+ * <p>It is backed by an {@link ArrayList}, so access by index takes
+ * constant time. If the source is a {@link Collection}, its items are
+ * copied at once into an array of the right size.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <T> List type
  * @since 0.1
  */
-public final class ListOf<T> extends ListEnvelope<T> {
+public final class ListOf<T> extends ListEnvelope<T> implements RandomAccess {
     /**
      * Ctor.
      *
@@ -44,7 +51,7 @@ public final class ListOf<T> extends ListEnvelope<T> {
      */
     @SafeVarargs
     public ListOf(final T... array) {
-        this(new IterableOf<>(array));
+        this(Arrays.asList(array));
     }
 
     /**
@@ -61,7 +68,24 @@ public final class ListOf<T> extends ListEnvelope<T> {
      * @param src An {@link Iterable}
      */
     public ListOf(final Iterable<? extends T> src) {
-        super(new LinkedList<>());
-        src.forEach(super::add);
+        super(ListOf.copy(src));
+    }
+
+    /**
+     * Copy items into a new list.
+     * @param src The items
+     * @param <T> Type of items
+     * @return The list
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> copy(final Iterable<? extends T> src) {
+        final List<T> list;
+        if (src instanceof Collection) {
+            list = new ArrayList<>((Collection<? extends T>) src);
+        } else {
+            list = new ArrayList<>(0);
+            src.forEach(list::add);
+        }
+        return list;
     }
 }
@@ -0,0 +1,187 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A decorator of {@link Map} that counts hits, misses and evictions,
+ * when it is used as a cache.
+ *
+ * <p>Every {@link #get(Object)} that returns a value is a hit and every
+ * one that returns NULL is a miss. Every {@link #put(Object, Object)}
+ * of a new key that doesn't grow the map, since the bounded origin
+ * (like {@link Lru} or {@link Lfu}) dropped something, is an eviction.</p>
+ *
+ * <pre>{@code
+ * final AtomicLong hits = new AtomicLong();
+ * final AtomicLong misses = new AtomicLong();
+ * final AtomicLong evictions = new AtomicLong();
+ * final Func<String, User> users = new StickyFunc<>(
+ *     name -> db.user(name),
+ *     new Counted<>(new Lru<>(1000), hits, misses, evictions)
+ * );
+ * }</pre>
+ *
+ * <p>Counters are thread-safe, the map is as thread-safe
+ * as the origin.</p>
+ *
+ * @param <X> Type of key
+ * @param <Y> Type of value
+ * @since 0.53
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Counted<X, Y> implements Map<X, Y> {
+
+    /**
+     * The map.
+     */
+    private final Map<X, Y> map;
+
+    /**
+     * Number of hits.
+     */
+    private final AtomicLong hits;
+
+    /**
+     * Number of misses.
+     */
+    private final AtomicLong misses;
+
+    /**
+     * Number of evictions.
+     */
+    private final AtomicLong evictions;
+
+    /**
+     * Ctor.
+     * @param origin The map
+     * @param hit Number of hits
+     * @param miss Number of misses
+     * @param evicted Number of evictions
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Counted(final Map<X, Y> origin, final AtomicLong hit,
+        final AtomicLong miss, final AtomicLong evicted) {
+        this.map = origin;
+        this.hits = hit;
+        this.misses = miss;
+        this.evictions = evicted;
+    }
+
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return this.map.containsValue(value);
+    }
+
+    @Override
+    public Y get(final Object key) {
+        final Y value = this.map.get(key);
+        if (value == null) {
+            this.misses.incrementAndGet();
+        } else {
+            this.hits.incrementAndGet();
+        }
+        return value;
+    }
+
+    @Override
+    public Y put(final X key, final Y value) {
+        final int before = this.map.size();
+        final Y result = this.map.put(key, value);
+        if (result == null) {
+            final int dropped = before + 1 - this.map.size();
+            if (dropped > 0) {
+                this.evictions.addAndGet(dropped);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Y remove(final Object key) {
+        return this.map.remove(key);
+    }
+
+    @Override
+    public void putAll(final Map<? extends X, ? extends Y> items) {
+        for (final Map.Entry<? extends X, ? extends Y> item
+            : items.entrySet()) {
+            this.put(item.getKey(), item.getValue());
+        }
+    }
+
+    @Override
+    public void clear() {
+        this.map.clear();
+    }
+
+    @Override
+    public Set<X> keySet() {
+        return this.map.keySet();
+    }
+
+    @Override
+    public Collection<Y> values() {
+        return this.map.values();
+    }
+
+    @Override
+    public Set<Map.Entry<X, Y>> entrySet() {
+        return this.map.entrySet();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this.map.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.map.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.map.toString();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Decorator that doesn't allow any mutation of the wrapped {@link Map}.
+ *
+ * <p>It is a view, the wrapped map is never copied. Its key set,
+ * values and entries are read-only views too.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <X> Type of key
+ * @param <Y> Type of value
+ * @since 0.53
+ */
+public final class Immutable<X, Y> extends MapEnvelope<X, Y> {
+
+    /**
+     * Ctor.
+     * @param map The map
+     */
+    @SuppressWarnings("unchecked")
+    public Immutable(final Map<? extends X, ? extends Y> map) {
+        super((Map<X, Y>) Collections.unmodifiableMap(map));
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Bounded map that evicts the least frequently used entries.
+ *
+ * <p>This is a simplified W-TinyLFU cache: new entries land in a small
+ * LRU "window" and, when they leave it, compete for a place in the
+ * main LRU segment with its eldest entry. The winner is the one that was
+ * requested more often recently, according to a 4-bit count-min sketch
+ * of access frequencies, which is periodically halved to forget
+ * old history. Lookups, admissions and evictions are O(1).</p>
+ *
+ * <p>Every {@link #get(Object)} counts as an access, and so does
+ * a {@link #put(Object, Object)} that replaces a value. A put of a new
+ * key doesn't, since a cache like {@link org.cactoos.func.StickyFunc}
+ * always looks the key up first, and a miss would count twice.</p>
+ *
+ * <p>Comparing to {@link Lru}, this map protects popular entries from
+ * being washed out by a burst of one-time keys.</p>
+ *
+ * <p>Methods {@link #keySet()}, {@link #values()} and
+ * {@link #entrySet()} return read-only snapshots.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of key
+ * @param <Y> Type of value
+ * @since 0.53
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Lfu<X, Y> implements Map<X, Y> {
+
+    /**
+     * Rows in the frequency sketch.
+     */
+    private static final int ROWS = 4;
+
+    /**
+     * Maximum value of a counter in the sketch.
+     */
+    private static final int CEILING = 15;
+
+    /**
+     * Window segment, where new entries land.
+     */
+    private final Map<X, Y> window;
+
+    /**
+     * Main segment.
+     */
+    private final Map<X, Y> main;
+
+    /**
+     * Capacity of the window.
+     */
+    private final int wcap;
+
+    /**
+     * Capacity of the main segment.
+     */
+    private final int mcap;
+
+    /**
+     * Counters of the frequency sketch, row by row.
+     */
+    private final byte[] sketch;
+
+    /**
+     * Mask of a counter index within a row.
+     */
+    private final int mask;
+
+    /**
+     * Number of increments before the sketch is halved.
+     */
+    private final int sample;
+
+    /**
+     * Number of increments since the last halving.
+     */
+    private int additions;
+
+    /**
+     * Ctor.
+     * @param max Maximum number of entries
+     */
+    public Lfu(final int max) {
+        this(Lfu.windowed(max), Lfu.width(max), max);
+    }
+
+    /**
+     * Ctor.
+     * @param wnd Capacity of the window
+     * @param width Number of counters in a row of the sketch
+     * @param max Maximum number of entries
+     */
+    private Lfu(final int wnd, final int width, final int max) {
+        this.window = new LinkedHashMap<>(16, 0.75f, true);
+        this.main = new LinkedHashMap<>(16, 0.75f, true);
+        this.wcap = wnd;
+        this.mcap = Math.max(0, max - wnd);
+        this.sketch = new byte[Lfu.ROWS * width];
+        this.mask = width - 1;
+        this.sample = width * 10;
+    }
+
+    @Override
+    public int size() {
+        return this.window.size() + this.main.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.window.isEmpty() && this.main.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.window.containsKey(key) || this.main.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return this.window.containsValue(value)
+            || this.main.containsValue(value);
+    }
+
+    @Override
+    public Y get(final Object key) {
+        this.increment(key);
+        Y value = this.window.get(key);
+        if (value == null) {
+            value = this.main.get(key);
+        }
+        return value;
+    }
+
+    @Override
+    public Y put(final X key, final Y value) {
+        final Y result;
+        if (this.window.containsKey(key)) {
+            this.increment(key);
+            result = this.window.put(key, value);
+        } else if (this.main.containsKey(key)) {
+            this.increment(key);
+            result = this.main.put(key, value);
+        } else {
+            result = null;
+            this.window.put(key, value);
+            if (this.window.size() > this.wcap) {
+                final Iterator<Map.Entry<X, Y>> eldest =
+                    this.window.entrySet().iterator();
+                final Map.Entry<X, Y> candidate = eldest.next();
+                eldest.remove();
+                this.admit(candidate.getKey(), candidate.getValue());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Y remove(final Object key) {
+        Y result = this.window.remove(key);
+        if (result == null) {
+            result = this.main.remove(key);
+        }
+        return result;
+    }
+
+    @Override
+    public void putAll(final Map<? extends X, ? extends Y> items) {
+        for (final Map.Entry<? extends X, ? extends Y> item
+            : items.entrySet()) {
+            this.put(item.getKey(), item.getValue());
+        }
+    }
+
+    @Override
+    public void clear() {
+        this.window.clear();
+        this.main.clear();
+    }
+
+    @Override
+    public Set<X> keySet() {
+        final Set<X> keys = new LinkedHashSet<>(this.window.keySet());
+        keys.addAll(this.main.keySet());
+        return Collections.unmodifiableSet(keys);
+    }
+
+    @Override
+    public Collection<Y> values() {
+        final List<Y> values = new ArrayList<>(this.size());
+        values.addAll(this.window.values());
+        values.addAll(this.main.values());
+        return Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public Set<Map.Entry<X, Y>> entrySet() {
+        final Set<Map.Entry<X, Y>> entries =
+            new LinkedHashSet<>(this.window.entrySet());
+        entries.addAll(this.main.entrySet());
+        return Collections.unmodifiableSet(entries);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || other instanceof Map
+            && this.entrySet().equals(((Map<?, ?>) other).entrySet());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.entrySet().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.entrySet().toString();
+    }
+
+    /**
+     * Capacity of the window: one percent of the entries, at least one.
+     * @param max Maximum number of entries
+     * @return Capacity
+     */
+    private static int windowed(final int max) {
+        final int cap;
+        if (max > 1) {
+            cap = Math.max(1, max / 100);
+        } else {
+            cap = Math.max(0, max);
+        }
+        return cap;
+    }
+
+    /**
+     * Number of counters in a row of the sketch: a power of two, not
+     * less than four times the number of entries, up to a million, so
+     * that a scan of one-time keys doesn't inflate the counters of the
+     * popular ones.
+     * @param max Maximum number of entries
+     * @return Width
+     */
+    private static int width(final int max) {
+        int width = 16;
+        while (width < max * 4 && width < 1 << 20) {
+            width <<= 1;
+        }
+        return width;
+    }
+
+    /**
+     * Move the candidate, evicted from the window, to the main segment,
+     * if it is used more frequently than the eldest entry there.
+     * @param key Key of the candidate
+     * @param value Value of the candidate
+     */
+    private void admit(final X key, final Y value) {
+        if (this.main.size() < this.mcap) {
+            this.main.put(key, value);
+        } else if (this.mcap > 0) {
+            final Iterator<X> eldest = this.main.keySet().iterator();
+            final X victim = eldest.next();
+            if (this.frequency(key) > this.frequency(victim)) {
+                eldest.remove();
+                this.main.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * Register one more access to the key in the sketch.
+     * @param key The key
+     */
+    private void increment(final Object key) {
+        final int hash = Objects.hashCode(key);
+        for (int row = 0; row < Lfu.ROWS; ++row) {
+            final int idx = this.index(hash, row);
+            if (this.sketch[idx] < Lfu.CEILING) {
+                this.sketch[idx] += 1;
+            }
+        }
+        this.additions += 1;
+        if (this.additions >= this.sample) {
+            for (int idx = 0; idx < this.sketch.length; ++idx) {
+                this.sketch[idx] >>= 1;
+            }
+            this.additions /= 2;
+        }
+    }
+
+    /**
+     * Estimated recent frequency of the key.
+     * @param key The key
+     * @return Frequency
+     */
+    private int frequency(final Object key) {
+        final int hash = Objects.hashCode(key);
+        int min = Lfu.CEILING;
+        for (int row = 0; row < Lfu.ROWS; ++row) {
+            min = Math.min(min, this.sketch[this.index(hash, row)]);
+        }
+        return min;
+    }
+
+    /**
+     * Position of the counter of a hash in a row of the sketch.
+     * @param hash Hash code of the key
+     * @param row Row number
+     * @return Index in the sketch
+     */
+    private int index(final int hash, final int row) {
+        int mixed = hash ^ row * 0x9E3779B9;
+        mixed *= 0x85EBCA6B;
+        mixed ^= mixed >>> 13;
+        mixed *= 0xC2B2AE35;
+        mixed ^= mixed >>> 16;
+        return row * (this.mask + 1) + (mixed & this.mask);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded map that evicts the least recently used entry.
+ *
+ * <p>Both reads and writes move the entry to the tail of the
+ * access order, so the entry evicted on overflow is the one that was
+ * not touched for the longest time. Lookups and evictions are O(1).</p>
+ *
+ * <p>It is designed to be a cache engine for
+ * {@link org.cactoos.func.StickyFunc}, see also {@link Lfu}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of key
+ * @param <Y> Type of value
+ * @since 0.53
+ */
+public final class Lru<X, Y> extends MapEnvelope<X, Y> {
+
+    /**
+     * Ctor.
+     * @param max Maximum number of entries
+     */
+    public Lru(final int max) {
+        super(
+            // @checkstyle MagicNumber (1 line)
+            new LinkedHashMap<X, Y>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                    final Map.Entry<X, Y> eldest
+                ) {
+                    return this.size() > max;
+                }
+            }
+        );
+    }
+}
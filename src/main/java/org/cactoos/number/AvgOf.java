@@ -24,10 +24,10 @@
 package org.cactoos.number;
 
 import java.math.BigDecimal;
-import java.util.Iterator;
+import java.math.MathContext;
+import java.util.Map;
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.scalar.ScalarOf;
-import org.cactoos.scalar.Ternary;
+import org.cactoos.scalar.Solid;
 
 /**
  * Average of numbers.
@@ -41,6 +41,16 @@ import org.cactoos.scalar.Ternary;
  * int avg = new AvgOf(numbers).intValue();
  * </pre>
  *
+ * <p>The average is calculated only once, when it is requested for the
+ * first time. Integers, longs and doubles are summed up without
+ * {@link BigDecimal}s, as long as it is precise.</p>
+ *
+ * <p>Pay attention that doubles are summed up as binary numbers, with
+ * compensation of rounding errors, not as decimals: the sum of
+ * {@code 0.1d} and {@code 0.2d} is {@code 0.30000000000000004d},
+ * exactly as with {@code 0.1d + 0.2d}. Floats and {@link
+ * java.math.BigDecimal}s are still summed up as decimals.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 1.0.0
@@ -67,21 +77,24 @@ public final class AvgOf extends NumberEnvelope {
     public AvgOf(final Iterable<? extends Number> src) {
         super(
             new NumberOfScalars(
-                new Ternary<>(
-                    new ScalarOf<>(src::iterator),
-                    (Iterator<? extends Number> it) -> it.hasNext(),
-                    it -> {
-                        BigDecimal total = BigDecimal.ZERO;
-                        long qty = 0;
-                        for (final Number value: new IterableOf<>(it)) {
-                            qty += 1;
-                            total = total.add(
-                                new BigDecimal(value.toString())
+                new Solid<>(
+                    () -> {
+                        final Map.Entry<Number, Long> total =
+                            new Total(src).value();
+                        final Number sum = total.getKey();
+                        final long qty = total.getValue();
+                        final Number avg;
+                        if (qty == 0L) {
+                            avg = BigDecimal.ZERO;
+                        } else if (sum instanceof Double) {
+                            avg = sum.doubleValue() / qty;
+                        } else {
+                            avg = new BigDecimal(sum.toString()).divide(
+                                BigDecimal.valueOf(qty), MathContext.DECIMAL128
                             );
                         }
-                        return total.divide(BigDecimal.valueOf(qty));
-                    },
-                    it -> BigDecimal.ZERO
+                        return avg;
+                    }
                 )
             )
         );
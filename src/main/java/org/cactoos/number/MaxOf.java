@@ -23,9 +23,11 @@
  */
 package org.cactoos.number;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Mapped;
-import org.cactoos.scalar.Reduced;
+import org.cactoos.scalar.Constant;
+import org.cactoos.scalar.Solid;
 
 /**
  * Find the greater among items.
@@ -40,6 +42,9 @@ import org.cactoos.scalar.Reduced;
  * int max = new MaxOf(numbers).intValue();
  * </pre>
  *
+ * <p>All four values are found in one pass, only once, when any of them
+ * is requested for the first time.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 1.0.0
@@ -66,21 +71,33 @@ public final class MaxOf extends NumberEnvelope {
     public MaxOf(final Iterable<? extends Number> src) {
         super(
             new NumberOfScalars(
-                new Reduced<>(
-                    Math::max,
-                    new Mapped<>((Number n) -> n::longValue, src)
-                ),
-                new Reduced<>(
-                    Math::max,
-                    new Mapped<>((Number n) -> n::intValue, src)
-                ),
-                new Reduced<>(
-                    Math::max,
-                    new Mapped<>((Number n) -> n::floatValue, src)
-                ),
-                new Reduced<>(
-                    Math::max,
-                    new Mapped<>((Number n) -> n::doubleValue, src)
+                new Solid<>(
+                    () -> {
+                        final Iterator<? extends Number> items = src.iterator();
+                        if (!items.hasNext()) {
+                            throw new NoSuchElementException(
+                                "Can't find first element in an empty iterable"
+                            );
+                        }
+                        final Number first = items.next();
+                        long lng = first.longValue();
+                        int intg = first.intValue();
+                        float flt = first.floatValue();
+                        double dbl = first.doubleValue();
+                        while (items.hasNext()) {
+                            final Number item = items.next();
+                            lng = Math.max(lng, item.longValue());
+                            intg = Math.max(intg, item.intValue());
+                            flt = Math.max(flt, item.floatValue());
+                            dbl = Math.max(dbl, item.doubleValue());
+                        }
+                        return new NumberOfScalars(
+                            new Constant<>(lng),
+                            new Constant<>(intg),
+                            new Constant<>(flt),
+                            new Constant<>(dbl)
+                        );
+                    }
                 )
             )
         );
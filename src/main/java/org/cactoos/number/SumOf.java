@@ -23,9 +23,8 @@
  */
 package org.cactoos.number;
 
-import java.math.BigDecimal;
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.scalar.Folded;
+import org.cactoos.scalar.Solid;
 
 /**
  * Sums of an iterable of numbers.
@@ -38,6 +37,16 @@ import org.cactoos.scalar.Folded;
  * int sum = new SumOf(numbers).intValue();
  * </pre>
  *
+ * <p>The sum is calculated only once, when it is requested for the
+ * first time. Integers, longs and doubles are summed up without
+ * {@link java.math.BigDecimal}s, as long as it is precise.</p>
+ *
+ * <p>Pay attention that doubles are summed up as binary numbers, with
+ * compensation of rounding errors, not as decimals: the sum of
+ * {@code 0.1d} and {@code 0.2d} is {@code 0.30000000000000004d},
+ * exactly as with {@code 0.1d + 0.2d}. Floats and {@link
+ * java.math.BigDecimal}s are still summed up as decimals.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 1.0.0
@@ -65,11 +74,7 @@ public final class SumOf extends NumberEnvelope {
     public SumOf(final Iterable<? extends Number> src) {
         super(
             new NumberOfScalars(
-                new Folded<>(
-                    BigDecimal.ZERO,
-                    (sum, value) -> sum.add(new BigDecimal(value.toString())),
-                    src
-                )
+                new Solid<>(() -> new Total(src).value().getKey())
             )
         );
     }
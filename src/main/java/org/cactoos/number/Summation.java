@@ -0,0 +1,191 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.math.BigDecimal;
+
+/**
+ * Running sum of numbers, for {@link Total}.
+ *
+ * <p>Integers, longs, shorts and bytes are added to an exact
+ * {@code long}, doubles are added with Neumaier compensation, without
+ * any allocations. When the {@code long} overflows, the {@code double}
+ * sum becomes infinite, or another number comes (like {@link Float} or
+ * {@link BigDecimal}), the sum so far moves into a {@link BigDecimal},
+ * and the rest of the numbers are added to it, so the numbers are read
+ * only once.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+final class Summation {
+
+    /**
+     * Exact sum of integral numbers.
+     */
+    private long exact;
+
+    /**
+     * Sum of doubles.
+     */
+    private double sum;
+
+    /**
+     * Rounding errors of the sum of doubles.
+     */
+    private double compensation;
+
+    /**
+     * Were there any doubles?
+     */
+    private boolean floating;
+
+    /**
+     * Precise sum, or NULL while the fast sums are enough.
+     */
+    private BigDecimal precise;
+
+    /**
+     * Add a number.
+     * @param number The number
+     */
+    void add(final Number number) {
+        if (this.precise != null) {
+            this.precise = this.precise.add(Summation.decimal(number));
+        } else if (Summation.integral(number)) {
+            this.addLong(number);
+        } else if (number instanceof Double) {
+            this.addDouble(number);
+        } else {
+            this.promote(number);
+        }
+    }
+
+    /**
+     * The sum.
+     * @return A {@link Long}, a {@link Double} or a {@link BigDecimal}
+     */
+    Number total() {
+        final double total = this.sum + (this.compensation + this.exact);
+        final Number result;
+        if (this.precise != null) {
+            result = this.precise;
+        } else if (this.floating && Double.isFinite(total)) {
+            result = total;
+        } else if (this.floating) {
+            result = this.partial();
+        } else {
+            result = this.exact;
+        }
+        return result;
+    }
+
+    /**
+     * Add an integral number to the exact sum.
+     * @param number The number
+     */
+    private void addLong(final Number number) {
+        final long item = number.longValue();
+        final long next = this.exact + item;
+        if (((this.exact ^ next) & (item ^ next)) < 0L) {
+            this.promote(number);
+        } else {
+            this.exact = next;
+        }
+    }
+
+    /**
+     * Add a double to the compensated sum.
+     * @param number The number
+     */
+    private void addDouble(final Number number) {
+        final double item = number.doubleValue();
+        final double next = this.sum + item;
+        if (Double.isFinite(next)) {
+            this.compensation += Summation.error(this.sum, item, next);
+            this.sum = next;
+            this.floating = true;
+        } else {
+            this.promote(number);
+        }
+    }
+
+    /**
+     * Move the sum so far into a {@link BigDecimal} and add the number.
+     * @param number The number
+     */
+    private void promote(final Number number) {
+        this.precise = this.partial().add(Summation.decimal(number));
+    }
+
+    /**
+     * The fast sums so far, as a {@link BigDecimal}.
+     * @return The sum
+     */
+    private BigDecimal partial() {
+        return BigDecimal.valueOf(this.exact).add(
+            BigDecimal.valueOf(this.sum).add(
+                BigDecimal.valueOf(this.compensation)
+            )
+        );
+    }
+
+    /**
+     * The number as a decimal.
+     * @param number The number
+     * @return The decimal
+     */
+    private static BigDecimal decimal(final Number number) {
+        return new BigDecimal(number.toString());
+    }
+
+    /**
+     * Is it a number that fits into {@code long} exactly.
+     * @param number The number
+     * @return TRUE if it is an integer, long, short or byte
+     */
+    private static boolean integral(final Number number) {
+        return number instanceof Integer || number instanceof Long
+            || number instanceof Short || number instanceof Byte;
+    }
+
+    /**
+     * Rounding error of one addition, by Neumaier.
+     * @param sum The sum before the addition
+     * @param item The item added
+     * @param next The sum after the addition
+     * @return The part of the item or the sum lost in rounding
+     */
+    private static double error(final double sum, final double item,
+        final double next) {
+        final double error;
+        if (Math.abs(sum) >= Math.abs(item)) {
+            error = sum - next + item;
+        } else {
+            error = item - next + sum;
+        }
+        return error;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.number;
+
+import java.util.Map;
+import org.cactoos.Scalar;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Sum of numbers and their quantity, calculated in one pass.
+ *
+ * <p>The numbers are read only once, so any iterable works, even
+ * the one that can't be iterated twice. See {@link Summation} for how
+ * they are summed up. Pay attention that doubles are summed up as
+ * binary numbers, so the sum of {@code 0.1d} and {@code 0.2d} is
+ * {@code 0.30000000000000004d}.</p>
+ *
+ * <p>The sum is a {@link Long}, a {@link Double} or
+ * a {@link java.math.BigDecimal}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+final class Total implements Scalar<Map.Entry<Number, Long>> {
+
+    /**
+     * The numbers.
+     */
+    private final Iterable<? extends Number> numbers;
+
+    /**
+     * Ctor.
+     * @param src The numbers
+     */
+    Total(final Iterable<? extends Number> src) {
+        this.numbers = src;
+    }
+
+    @Override
+    public Map.Entry<Number, Long> value() {
+        final Summation sum = new Summation();
+        long qty = 0L;
+        for (final Number number : this.numbers) {
+            qty += 1L;
+            sum.add(number);
+        }
+        return new MapEntry<>(sum.total(), qty);
+    }
+}
@@ -26,7 +26,6 @@ package org.cactoos.scalar;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import org.cactoos.Func;
@@ -42,6 +41,10 @@ import org.cactoos.text.FormattedText;
  *
  * <p>The usage is same as for {@link And}</p>
  *
+ * <p>Unless an executor service is given, each evaluation runs the
+ * scalars in a new {@link ThreadPerTask} service, which uses virtual
+ * threads on JDK 21 and later, and shuts it down afterwards.</p>
+ *
  * <p>This class implements {@link Scalar}, which throws a checked
  * {@link Exception}. This may not be convenient in many cases. To make
  * it more convenient and get rid of the checked exception you can
@@ -59,7 +62,7 @@ public final class AndInThreads implements Scalar<Boolean> {
     /**
      * The service.
      */
-    private final ExecutorService service;
+    private final Scalar<? extends ExecutorService> service;
 
     /**
      * The iterator.
@@ -112,7 +115,7 @@ public final class AndInThreads implements Scalar<Boolean> {
      * @param src The iterable
      */
     public AndInThreads(final Iterable<? extends Scalar<Boolean>> src) {
-        this(Executors.newCachedThreadPool(), src, true);
+        this(new ThreadPerTask(), src, true);
     }
 
     /**
@@ -201,7 +204,7 @@ public final class AndInThreads implements Scalar<Boolean> {
      */
     public AndInThreads(final ExecutorService svc,
         final Iterable<? extends Scalar<Boolean>> src) {
-        this(svc, src, false);
+        this(new Constant<>(svc), src, false);
     }
 
     /**
@@ -210,7 +213,7 @@ public final class AndInThreads implements Scalar<Boolean> {
      * @param src The iterable
      * @param sht Shut it down
      */
-    private AndInThreads(final ExecutorService svc,
+    private AndInThreads(final Scalar<? extends ExecutorService> svc,
         final Iterable<? extends Scalar<Boolean>> src, final boolean sht) {
         this.service = svc;
         this.iterable = src;
@@ -219,18 +222,19 @@ public final class AndInThreads implements Scalar<Boolean> {
 
     @Override
     public Boolean value() throws Exception {
+        final ExecutorService svc = this.service.value();
         final Collection<Future<Boolean>> futures = new LinkedList<>();
         for (final Scalar<Boolean> item : this.iterable) {
-            futures.add(this.service.submit(item::value));
+            futures.add(svc.submit(item::value));
         }
         final boolean result = new And(
             Future::get,
             futures
         ).value();
         if (this.shut) {
-            this.service.shutdown();
+            svc.shutdown();
             try {
-                if (!this.service.awaitTermination(1L, TimeUnit.MINUTES)) {
+                if (!svc.awaitTermination(1L, TimeUnit.MINUTES)) {
                     throw new IllegalStateException(
                         new FormattedText(
                             "Can't terminate the service, result=%b",
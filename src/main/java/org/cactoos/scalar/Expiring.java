@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.ExpiringFunc;
+
+/**
+ * Cached version of a Scalar, which is calculated again when
+ * the cached value gets too old.
+ *
+ * <p>If an {@link Executor} is provided, an expired value is refreshed
+ * ahead: it is returned immediately, while the new one is being
+ * calculated in the background. This is useful for configurations and
+ * feature flags, which must be cheap to read, but may change.</p>
+ *
+ * <pre>{@code
+ * final Scalar<Properties> config = new Expiring<>(
+ *     new PropertiesOf(new ResourceOf("app.properties")),
+ *     Duration.ofSeconds(30L),
+ *     Executors.newSingleThreadExecutor()
+ * );
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <T> Type of result
+ * @see ExpiringFunc
+ * @see ExpiringIdle
+ * @since 0.53
+ */
+public final class Expiring<T> implements Scalar<T> {
+
+    /**
+     * Func.
+     */
+    private final Func<Boolean, ? extends T> func;
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param ttl Time to live after calculation
+     */
+    public Expiring(final Scalar<? extends T> scalar, final Duration ttl) {
+        this(scalar, ttl, Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param ttl Time to live after calculation
+     * @param clock The clock
+     */
+    public Expiring(final Scalar<? extends T> scalar, final Duration ttl,
+        final Clock clock) {
+        this(new ExpiringFunc<>(input -> scalar.value(), ttl, clock));
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param ttl Time to live after calculation
+     * @param exec Executor to refresh the expired value in
+     */
+    public Expiring(final Scalar<? extends T> scalar, final Duration ttl,
+        final Executor exec) {
+        this(scalar, ttl, exec, Clock.systemUTC());
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param ttl Time to live after calculation
+     * @param exec Executor to refresh the expired value in
+     * @param clock The clock
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Expiring(final Scalar<? extends T> scalar, final Duration ttl,
+        final Executor exec, final Clock clock) {
+        this(new ExpiringFunc<>(input -> scalar.value(), ttl, exec, clock));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Expiring func
+     */
+    private Expiring(final Func<Boolean, ? extends T> fnc) {
+        this.func = fnc;
+    }
+
+    @Override
+    public T value() throws Exception {
+        return this.func.apply(true);
+    }
+}
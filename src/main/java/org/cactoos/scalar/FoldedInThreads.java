@@ -0,0 +1,167 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.BiFunc;
+import org.cactoos.Scalar;
+
+/**
+ * Iterable, which elements are "folded" through the func,
+ * in multiple threads.
+ *
+ * <p>The iterable is split by its {@link java.util.Spliterator} into
+ * parts, which are folded in a {@link ForkJoinPool}, starting from the
+ * same initial value, and the results of the parts are combined by the
+ * combiner, in the original order. So, the folding func must be
+ * associative and the initial value must be the identity of the
+ * combiner. Parts not bigger than the threshold are folded sequentially,
+ * so small iterables don't pay for forking. It works best with
+ * iterables that split well, like {@link java.util.ArrayList}.</p>
+ *
+ * <pre>{@code
+ * final long sum = new FoldedInThreads<>(
+ *     0L,
+ *     (total, item) -> total + item,
+ *     Long::sum,
+ *     numbers
+ * ).value();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of input and output
+ * @param <T> Type of element
+ * @see Folded
+ * @since 0.53
+ */
+public final class FoldedInThreads<X, T> implements Scalar<X> {
+
+    /**
+     * Original iterable.
+     */
+    private final Iterable<? extends T> iterable;
+
+    /**
+     * Input.
+     */
+    private final X input;
+
+    /**
+     * Func.
+     */
+    private final BiFunc<? super X, ? super T, ? extends X> func;
+
+    /**
+     * Combiner of the results of parts.
+     */
+    private final BiFunc<? super X, ? super X, ? extends X> combiner;
+
+    /**
+     * Maximum size of a part to be folded sequentially.
+     */
+    private final long threshold;
+
+    /**
+     * The pool.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Ctor.
+     * @param ipt Input, the identity of the combiner
+     * @param fnc Func original
+     * @param cmb Combiner of the results of parts
+     * @param list List of items
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public FoldedInThreads(final X ipt,
+        final BiFunc<? super X, ? super T, ? extends X> fnc,
+        final BiFunc<? super X, ? super X, ? extends X> cmb,
+        final Iterable<? extends T> list) {
+        // @checkstyle MagicNumber (1 line)
+        this(ipt, fnc, cmb, list, 1024L);
+    }
+
+    /**
+     * Ctor.
+     * @param ipt Input, the identity of the combiner
+     * @param fnc Func original
+     * @param cmb Combiner of the results of parts
+     * @param list List of items
+     * @param max Maximum size of a part to be folded sequentially
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public FoldedInThreads(final X ipt,
+        final BiFunc<? super X, ? super T, ? extends X> fnc,
+        final BiFunc<? super X, ? super X, ? extends X> cmb,
+        final Iterable<? extends T> list, final long max) {
+        this(ForkJoinPool.commonPool(), ipt, fnc, cmb, list, max);
+    }
+
+    /**
+     * Ctor.
+     * @param fjp The pool
+     * @param ipt Input, the identity of the combiner
+     * @param fnc Func original
+     * @param cmb Combiner of the results of parts
+     * @param list List of items
+     * @param max Maximum size of a part to be folded sequentially
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public FoldedInThreads(final ForkJoinPool fjp, final X ipt,
+        final BiFunc<? super X, ? super T, ? extends X> fnc,
+        final BiFunc<? super X, ? super X, ? extends X> cmb,
+        final Iterable<? extends T> list, final long max) {
+        this.pool = fjp;
+        this.input = ipt;
+        this.func = fnc;
+        this.combiner = cmb;
+        this.iterable = list;
+        this.threshold = max;
+    }
+
+    @Override
+    public X value() throws Exception {
+        try {
+            return this.pool.invoke(
+                new Folding<X, T>(
+                    this.iterable.spliterator(), this.input,
+                    this.func, this.combiner, this.threshold
+                )
+            );
+        } catch (final CompletionException ex) {
+            Throwable cause = ex;
+            while (cause instanceof CompletionException
+                && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw ex;
+        }
+    }
+}
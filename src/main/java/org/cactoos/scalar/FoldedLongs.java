@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.LongBinaryOperator;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOfLongs;
+
+/**
+ * Iterable of {@code long}s, which elements are "folded" through
+ * the func.
+ *
+ * <p>Comparing to {@link Folded}, it doesn't box values, if the iterator
+ * of the iterable is a {@link PrimitiveIterator.OfLong}, like
+ * {@link org.cactoos.iterator.IteratorOfLongs},
+ * {@link org.cactoos.iterator.MappedLongs} or
+ * {@link org.cactoos.iterator.FilteredLongs}. Only the result is boxed:</p>
+ *
+ * <pre>{@code
+ * final Long sum = new FoldedLongs(
+ *     0, (memo, item) -> memo + item,
+ *     new IterableOf<>(
+ *         () -> new MappedLongs(item -> item * 2, new IteratorOfLongs(values))
+ *     )
+ * ).value();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class FoldedLongs implements Scalar<Long> {
+
+    /**
+     * Original iterable.
+     */
+    private final Iterable<Long> iterable;
+
+    /**
+     * Input.
+     */
+    private final long input;
+
+    /**
+     * Func.
+     */
+    private final LongBinaryOperator func;
+
+    /**
+     * Ctor.
+     * @param ipt Input
+     * @param fnc Func original
+     * @param list Array of items
+     */
+    public FoldedLongs(final long ipt, final LongBinaryOperator fnc,
+        final long... list) {
+        this(ipt, fnc, new IterableOfLongs(list));
+    }
+
+    /**
+     * Ctor.
+     * @param ipt Input
+     * @param fnc Func original
+     * @param list List of items
+     */
+    public FoldedLongs(final long ipt, final LongBinaryOperator fnc,
+        final Iterable<Long> list) {
+        this.iterable = list;
+        this.input = ipt;
+        this.func = fnc;
+    }
+
+    @Override
+    public Long value() {
+        final Iterator<Long> iterator = this.iterable.iterator();
+        long memo = this.input;
+        if (iterator instanceof PrimitiveIterator.OfLong) {
+            final PrimitiveIterator.OfLong items =
+                (PrimitiveIterator.OfLong) iterator;
+            while (items.hasNext()) {
+                memo = this.func.applyAsLong(memo, items.nextLong());
+            }
+        } else {
+            while (iterator.hasNext()) {
+                memo = this.func.applyAsLong(memo, iterator.next());
+            }
+        }
+        return memo;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RecursiveTask;
+import org.cactoos.BiFunc;
+
+/**
+ * Fork-join task, which folds a part of a {@link Spliterator}.
+ *
+ * <p>The part is folded sequentially, if it's not bigger than the
+ * threshold or can't be split. Otherwise it is split in two, the
+ * prefix is forked and the results are combined in the original
+ * order. Exceptions of the funcs are wrapped into
+ * {@link CompletionException}.</p>
+ *
+ * <p>This class is for internal use only. Use {@link FoldedInThreads}
+ * or {@link ReducedInThreads} instead.</p>
+ *
+ * @param <X> Type of result
+ * @param <T> Type of element
+ * @since 0.53
+ */
+final class Folding<X, T> extends RecursiveTask<X> {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Elements.
+     */
+    private final transient Spliterator<? extends T> items;
+
+    /**
+     * Initial value of every part.
+     */
+    private final transient X input;
+
+    /**
+     * Folding func.
+     */
+    private final transient BiFunc<? super X, ? super T, ? extends X> func;
+
+    /**
+     * Combining func.
+     */
+    private final transient BiFunc<? super X, ? super X, ? extends X> combiner;
+
+    /**
+     * Maximum size of a part to be folded sequentially.
+     */
+    private final long threshold;
+
+    /**
+     * Ctor.
+     * @param src Elements
+     * @param ipt Initial value of every part
+     * @param fnc Folding func
+     * @param cmb Combining func
+     * @param max Maximum size of a part to be folded sequentially
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Folding(final Spliterator<? extends T> src, final X ipt,
+        final BiFunc<? super X, ? super T, ? extends X> fnc,
+        final BiFunc<? super X, ? super X, ? extends X> cmb, final long max) {
+        super();
+        this.items = src;
+        this.input = ipt;
+        this.func = fnc;
+        this.combiner = cmb;
+        this.threshold = max;
+    }
+
+    @Override
+    public X compute() {
+        Spliterator<? extends T> prefix = null;
+        if (this.items.estimateSize() > this.threshold) {
+            prefix = this.items.trySplit();
+        }
+        final X result;
+        if (prefix == null) {
+            result = this.folded();
+        } else {
+            final Folding<X, T> left = new Folding<>(
+                prefix, this.input, this.func, this.combiner, this.threshold
+            );
+            left.fork();
+            final X right = this.compute();
+            result = this.combined(left.join(), right);
+        }
+        return result;
+    }
+
+    /**
+     * Fold the elements sequentially.
+     * @return The result
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private X folded() {
+        try {
+            final Iterator<? extends T> iter =
+                Spliterators.iterator(this.items);
+            X memo = this.input;
+            while (iter.hasNext()) {
+                memo = this.func.apply(memo, iter.next());
+            }
+            return memo;
+        // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new CompletionException(ex);
+        }
+    }
+
+    /**
+     * Combine the results of two parts.
+     * @param left Result of the first part
+     * @param right Result of the second part
+     * @return The result
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private X combined(final X left, final X right) {
+        try {
+            return this.combiner.apply(left, right);
+        // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new CompletionException(ex);
+        }
+    }
+}
@@ -25,6 +25,8 @@ package org.cactoos.scalar;
 
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
 import org.cactoos.Func;
 import org.cactoos.Scalar;
 import org.cactoos.func.FuncOf;
@@ -35,6 +37,9 @@ import org.cactoos.text.FormattedText;
  * Element from position in {@link Iterable}
  * or fallback value if iterable doesn't have this position.
  *
+ * <p>Lists with {@link RandomAccess}, like {@link org.cactoos.list.ListOf},
+ * are accessed by index instead of being iterated.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <T> Scalar type
@@ -106,16 +111,26 @@ public final class ItemAt<T> implements Scalar<T> {
                         ).asString()
                     );
                 }
-                final Iterator<? extends T> src = iterable.iterator();
-                int cur;
-                for (cur = 0; cur < position && src.hasNext(); ++cur) {
-                    src.next();
-                }
                 final T ret;
-                if (cur == position && src.hasNext()) {
-                    ret = src.next();
+                if (iterable instanceof List
+                    && iterable instanceof RandomAccess) {
+                    final List<? extends T> list = (List<? extends T>) iterable;
+                    if (position < list.size()) {
+                        ret = list.get(position);
+                    } else {
+                        ret = fallback.apply(new IterableOf<>());
+                    }
                 } else {
-                    ret = fallback.apply(new IterableOf<>(src));
+                    final Iterator<? extends T> src = iterable.iterator();
+                    int cur;
+                    for (cur = 0; cur < position && src.hasNext(); ++cur) {
+                        src.next();
+                    }
+                    if (cur == position && src.hasNext()) {
+                        ret = src.next();
+                    } else {
+                        ret = fallback.apply(new IterableOf<>(src));
+                    }
                 }
                 return ret;
             }
@@ -24,11 +24,15 @@
 
 package org.cactoos.scalar;
 
+import java.io.FileInputStream;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.util.Iterator;
 import org.cactoos.Input;
 import org.cactoos.Scalar;
 import org.cactoos.Text;
+import org.cactoos.io.ByteBufferInputStream;
+import org.cactoos.io.IsRegularFile;
 
 /**
  * Length.
@@ -77,6 +81,13 @@ public final class LengthOf extends ScalarEnvelope<Long> {
 
     /**
      * Ctor.
+     *
+     * <p>If the stream of the input is a {@link ByteBufferInputStream} or
+     * a {@link FileInputStream} of a regular file, the length is taken
+     * from the buffer or from the file channel, without reading. Pseudo
+     * files, like the ones in {@code /sys}, report a size that differs
+     * from their content, so they are read.</p>
+     *
      * @param input The input
      * @param max Buffer size
      */
@@ -88,15 +99,23 @@ public final class LengthOf extends ScalarEnvelope<Long> {
                 );
             }
             try (InputStream stream = input.stream()) {
-                final byte[] buf = new byte[max];
                 long length = 0L;
-                while (true) {
-                    final int len = stream.read(buf);
-                    if (len > 0) {
-                        length += (long) len;
-                    }
-                    if (len < 0) {
-                        break;
+                if (stream instanceof ByteBufferInputStream) {
+                    length = (long) stream.available();
+                } else if (new IsRegularFile(stream).value()) {
+                    final FileChannel channel =
+                        ((FileInputStream) stream).getChannel();
+                    length = channel.size() - channel.position();
+                } else {
+                    final byte[] buf = new byte[max];
+                    while (true) {
+                        final int len = stream.read(buf);
+                        if (len > 0) {
+                            length += (long) len;
+                        }
+                        if (len < 0) {
+                            break;
+                        }
                     }
                 }
                 return length;
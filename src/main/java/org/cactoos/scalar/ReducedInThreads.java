@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.BiFunc;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.Mapped;
+
+/**
+ * Reduces iterable via BiFunc, in multiple threads.
+ *
+ * <p>The usage is the same as for {@link Reduced}, but the reducing
+ * func must be associative. The scalars are split into parts, which are
+ * evaluated and reduced in a {@link ForkJoinPool}, and the results of
+ * the parts are reduced in the original order. Parts not bigger than
+ * the threshold are reduced sequentially.</p>
+ *
+ * <pre>{@code
+ * final Long sum = new ReducedInThreads<>(Long::sum, numbers).value();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Scalar type
+ * @see FoldedInThreads
+ * @since 0.53
+ */
+public final class ReducedInThreads<T> implements Scalar<T> {
+
+    /**
+     * Result of a part without scalars.
+     */
+    private static final Object EMPTY = new Object();
+
+    /**
+     * The pool.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Reducing function.
+     */
+    private final BiFunc<? super T, ? super T, ? extends T> func;
+
+    /**
+     * The scalars.
+     */
+    private final Iterable<? extends Scalar<? extends T>> scalars;
+
+    /**
+     * Maximum size of a part to be reduced sequentially.
+     */
+    private final long threshold;
+
+    /**
+     * Ctor.
+     * @param reduce Reducing function
+     * @param values Values to be wrapped as scalars
+     */
+    @SafeVarargs
+    public ReducedInThreads(
+        final BiFunc<? super T, ? super T, ? extends T> reduce,
+        final T... values
+    ) {
+        this(reduce, new Mapped<>(Constant::new, values));
+    }
+
+    /**
+     * Ctor.
+     * @param reduce Reducing function
+     * @param scalars The scalars
+     */
+    public ReducedInThreads(
+        final BiFunc<? super T, ? super T, ? extends T> reduce,
+        final Iterable<? extends Scalar<? extends T>> scalars
+    ) {
+        // @checkstyle MagicNumber (1 line)
+        this(reduce, scalars, 1024L);
+    }
+
+    /**
+     * Ctor.
+     * @param reduce Reducing function
+     * @param scalars The scalars
+     * @param max Maximum size of a part to be reduced sequentially
+     */
+    public ReducedInThreads(
+        final BiFunc<? super T, ? super T, ? extends T> reduce,
+        final Iterable<? extends Scalar<? extends T>> scalars,
+        final long max
+    ) {
+        this(ForkJoinPool.commonPool(), reduce, scalars, max);
+    }
+
+    /**
+     * Ctor.
+     * @param pool The pool
+     * @param reduce Reducing function
+     * @param scalars The scalars
+     * @param max Maximum size of a part to be reduced sequentially
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ReducedInThreads(
+        final ForkJoinPool pool,
+        final BiFunc<? super T, ? super T, ? extends T> reduce,
+        final Iterable<? extends Scalar<? extends T>> scalars,
+        final long max
+    ) {
+        this.pool = pool;
+        this.func = reduce;
+        this.scalars = scalars;
+        this.threshold = max;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T value() throws Exception {
+        final Object result = new FoldedInThreads<Object, Scalar<? extends T>>(
+            this.pool,
+            ReducedInThreads.EMPTY,
+            (memo, item) -> this.merged(memo, item.value()),
+            this::merged,
+            this.scalars,
+            this.threshold
+        ).value();
+        if (result == ReducedInThreads.EMPTY) {
+            throw new NoSuchElementException(
+                "Can't find first element in an empty iterable"
+            );
+        }
+        return (T) result;
+    }
+
+    /**
+     * Reduce two results, either of which may be of a part without
+     * scalars.
+     * @param first The first result
+     * @param second The second result
+     * @return Reduced result
+     * @throws Exception If fails
+     */
+    @SuppressWarnings("unchecked")
+    private Object merged(final Object first, final Object second)
+        throws Exception {
+        final Object result;
+        if (first == ReducedInThreads.EMPTY) {
+            result = second;
+        } else if (second == ReducedInThreads.EMPTY) {
+            result = first;
+        } else {
+            result = this.func.apply((T) first, (T) second);
+        }
+        return result;
+    }
+}
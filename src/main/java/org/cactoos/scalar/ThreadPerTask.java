@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.Scalar;
+
+/**
+ * Executor service that starts a new thread for each task.
+ *
+ * <p>On JDK 21 and later it is the virtual-thread-per-task executor,
+ * so thousands of blocking tasks don't need thousands of platform
+ * threads. On older JDKs the fallback is used, which by default is a
+ * cached thread pool of daemon threads.</p>
+ *
+ * <pre>{@code
+ * final ExecutorService svc = new ThreadPerTask().value();
+ * }</pre>
+ *
+ * <p>Each call to {@link #value()} creates a new executor service.</p>
+ *
+ * <p>This class is thread safe.</p>
+ *
+ * @since 0.53
+ */
+public final class ThreadPerTask implements Scalar<ExecutorService> {
+
+    /**
+     * Executor service to use if virtual threads are not available.
+     */
+    private final Scalar<? extends ExecutorService> fallback;
+
+    /**
+     * Ctor.
+     */
+    public ThreadPerTask() {
+        this(
+            () -> Executors.newCachedThreadPool(
+                runnable -> {
+                    final Thread thread = Executors.defaultThreadFactory()
+                        .newThread(runnable);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param fbk Executor service to use if virtual threads are not available
+     */
+    public ThreadPerTask(final Scalar<? extends ExecutorService> fbk) {
+        this.fallback = fbk;
+    }
+
+    @Override
+    public ExecutorService value() throws Exception {
+        ExecutorService service;
+        try {
+            service = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (final NoSuchMethodException ex) {
+            service = this.fallback.value();
+        } catch (final InvocationTargetException ex) {
+            if (!(ex.getCause() instanceof UnsupportedOperationException)) {
+                throw ex;
+            }
+            service = this.fallback.value();
+        }
+        return service;
+    }
+}
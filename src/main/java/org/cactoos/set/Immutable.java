@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.set;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.Spliterator;
+import org.cactoos.iterator.ImmutableSpliterator;
+
+/**
+ * Decorator that doesn't allow any mutation of the wrapped {@link Set}.
+ *
+ * <p>It is a view, the wrapped set is never copied. Its
+ * {@link Spliterator} is {@link Spliterator#IMMUTABLE} and keeps
+ * all other characteristics of the wrapped set.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <X> Type of source item
+ * @since 0.53
+ */
+@SuppressWarnings(
+    {
+        "PMD.TooManyMethods",
+        "PMD.AbstractNaming"
+    }
+)
+public final class Immutable<X> implements Set<X> {
+
+    /**
+     * Original set.
+     */
+    private final Set<? extends X> set;
+
+    /**
+     * Ctor.
+     * @param src Source set
+     */
+    public Immutable(final Set<? extends X> src) {
+        this.set = src;
+    }
+
+    @Override
+    public int size() {
+        return this.set.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.set.isEmpty();
+    }
+
+    @Override
+    public Iterator<X> iterator() {
+        return new org.cactoos.iterator.Immutable<>(this.set.iterator());
+    }
+
+    @Override
+    public Spliterator<X> spliterator() {
+        return new ImmutableSpliterator<>(this.set.spliterator());
+    }
+
+    @Override
+    public boolean contains(final Object object) {
+        return this.set.contains(object);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return this.set.toArray();
+    }
+
+    @Override
+    @SuppressWarnings("PMD.UseVarargs")
+    public <T> T[] toArray(final T[] array) {
+        return this.set.toArray(array);
+    }
+
+    @Override
+    public boolean add(final X item) {
+        throw new UnsupportedOperationException(
+            "#add(): the set is read-only"
+        );
+    }
+
+    @Override
+    public boolean remove(final Object object) {
+        throw new UnsupportedOperationException(
+            "#remove(): the set is read-only"
+        );
+    }
+
+    @Override
+    public boolean containsAll(final Collection<?> list) {
+        return this.set.containsAll(list);
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends X> list) {
+        throw new UnsupportedOperationException(
+            "#addAll(): the set is read-only"
+        );
+    }
+
+    @Override
+    public boolean removeAll(final Collection<?> list) {
+        throw new UnsupportedOperationException(
+            "#removeAll(): the set is read-only"
+        );
+    }
+
+    @Override
+    public boolean retainAll(final Collection<?> list) {
+        throw new UnsupportedOperationException(
+            "#retainAll(): the set is read-only"
+        );
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException(
+            "#clear(): the set is read-only"
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.set.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return this.set.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this.set.equals(obj);
+    }
+}
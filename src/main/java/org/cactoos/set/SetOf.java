@@ -23,13 +23,17 @@
  */
 package org.cactoos.set;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
-import org.cactoos.iterable.IterableOf;
 
 /**
  * Iterable as {@link Set} based on {@link HashSet}.
  *
+ * <p>If the source is a {@link Collection}, the set is created with
+ * the capacity for all of its items, so it is never rehashed.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <T> Set type
@@ -44,7 +48,7 @@ public final class SetOf<T> extends SetEnvelope<T> {
      */
     @SafeVarargs
     public SetOf(final T... array) {
-        this(new IterableOf<>(array));
+        this(Arrays.asList(array));
     }
 
     /**
@@ -52,7 +56,24 @@ public final class SetOf<T> extends SetEnvelope<T> {
      * @param src An {@link Iterable}
      */
     public SetOf(final Iterable<? extends T> src) {
-        super(new HashSet<>());
-        src.forEach(super::add);
+        super(SetOf.copy(src));
+    }
+
+    /**
+     * Copy items into a new set.
+     * @param src The items
+     * @param <T> Type of items
+     * @return The set
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Set<T> copy(final Iterable<? extends T> src) {
+        final Set<T> set;
+        if (src instanceof Collection) {
+            set = new HashSet<>((Collection<? extends T>) src);
+        } else {
+            set = new HashSet<>(0);
+            src.forEach(set::add);
+        }
+        return set;
     }
 }
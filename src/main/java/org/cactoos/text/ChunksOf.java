@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.cactoos.Input;
+import org.cactoos.Scalar;
+import org.cactoos.Text;
+import org.cactoos.io.ReaderOf;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Text read as a sequence of bounded chunks.
+ *
+ * <p>Use it for texts that don't fit into memory. Chunk-local
+ * decorators, like {@link Upper} or {@link Lowered}, apply to every chunk
+ * through {@link org.cactoos.iterable.Mapped}; the ones that look across
+ * chunk borders have their own streaming versions:
+ * {@link TrimmedChunks}, {@link ReplacedChunks} and
+ * {@link NormalizedChunks}. The whole text is built only when asked
+ * for explicitly, with {@link Joined}:</p>
+ *
+ * <pre>{@code
+ * final Iterable<Text> upper = new Mapped<>(
+ *     Upper::new,
+ *     new NormalizedChunks(new ChunksOf(new InputOf(file)))
+ * );
+ * final String all = new Joined(new TextOf(""), upper).asString();
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class ChunksOf extends IterableEnvelope<Text> {
+
+    /**
+     * Default chunk size in chars.
+     */
+    private static final int SIZE = 8 << 10;
+
+    /**
+     * Ctor.
+     * @param input The input, in UTF-8
+     */
+    public ChunksOf(final Input input) {
+        this(input, ChunksOf.SIZE);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input, in UTF-8
+     * @param size Max chunk size in chars
+     */
+    public ChunksOf(final Input input, final int size) {
+        this(input, StandardCharsets.UTF_8, size);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param charset The charset of the input
+     * @param size Max chunk size in chars
+     */
+    public ChunksOf(final Input input, final Charset charset, final int size) {
+        this(() -> new ReaderOf(input, charset), size);
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param size Max chunk size in chars
+     */
+    public ChunksOf(final Text text, final int size) {
+        this(() -> new StringReader(text.asString()), size);
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The reader can be iterated only once.</p>
+     * @param reader The reader
+     */
+    public ChunksOf(final Reader reader) {
+        this(reader, ChunksOf.SIZE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The reader can be iterated only once.</p>
+     * @param reader The reader
+     * @param size Max chunk size in chars
+     */
+    public ChunksOf(final Reader reader, final int size) {
+        this(() -> reader, size);
+    }
+
+    /**
+     * Ctor.
+     * @param reader The reader, a new one for every iteration
+     * @param size Max chunk size in chars
+     */
+    public ChunksOf(final Scalar<? extends Reader> reader, final int size) {
+        super(new IterableOf<>(() -> new ReaderChunks(reader.value(), size)));
+    }
+}
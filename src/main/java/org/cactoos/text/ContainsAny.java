@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import org.cactoos.Scalar;
+import org.cactoos.Text;
+
+/**
+ * Tests if the Text contains any of a few literal strings.
+ *
+ * <p>The text is scanned once with {@link Needles}, whatever the number
+ * of them.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Contains
+ * @since 0.53
+ */
+public final class ContainsAny implements Scalar<Boolean> {
+
+    /**
+     * The origin.
+     */
+    private final Text origin;
+
+    /**
+     * The needles.
+     */
+    private final Needles needles;
+
+    /**
+     * Ctor.
+     * @param origin The origin
+     * @param others The strings to look for
+     */
+    public ContainsAny(
+        final CharSequence origin,
+        final CharSequence... others
+    ) {
+        this(new TextOf(origin), new Needles(others));
+    }
+
+    /**
+     * Ctor.
+     * @param origin The origin
+     * @param others The strings to look for
+     */
+    public ContainsAny(
+        final Text origin,
+        final Iterable<? extends CharSequence> others
+    ) {
+        this(origin, new Needles(others));
+    }
+
+    /**
+     * Ctor.
+     * @param origin The origin
+     * @param needles The strings to look for
+     */
+    public ContainsAny(final CharSequence origin, final Needles needles) {
+        this(new TextOf(origin), needles);
+    }
+
+    /**
+     * Ctor.
+     * @param origin The origin
+     * @param needles The strings to look for
+     */
+    public ContainsAny(final Text origin, final Needles needles) {
+        this.origin = origin;
+        this.needles = needles;
+    }
+
+    @Override
+    public Boolean value() throws Exception {
+        return this.needles.foundIn(this.origin.asString());
+    }
+}
@@ -23,15 +23,19 @@
  */
 package org.cactoos.text;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Formatter;
 import java.util.Locale;
 import org.cactoos.Text;
-import org.cactoos.list.ListOf;
 
 /**
  * Text in Sprinf format.
  *
+ * <p>A pattern without {@code %} is returned as is, without
+ * {@link Formatter}. For a pattern that is used many times, prefer
+ * a {@link Template}, which is parsed only once.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.1
@@ -45,7 +49,7 @@ public final class FormattedText extends TextEnvelope {
      * @param arguments Arguments
      */
     public FormattedText(final String ptn, final Object... arguments) {
-        this(ptn, new ListOf<>(arguments));
+        this(ptn, Arrays.asList(arguments));
     }
 
     /**
@@ -55,7 +59,7 @@ public final class FormattedText extends TextEnvelope {
      * @param arguments Arguments
      */
     public FormattedText(final Text ptn, final Object... arguments) {
-        this(ptn, new ListOf<>(arguments));
+        this(ptn, Arrays.asList(arguments));
     }
 
     /**
@@ -70,7 +74,7 @@ public final class FormattedText extends TextEnvelope {
         final Locale locale,
         final Object... arguments
     ) {
-        this(ptn, locale, new ListOf<>(arguments));
+        this(ptn, locale, Arrays.asList(arguments));
     }
 
     /**
@@ -85,7 +89,18 @@ public final class FormattedText extends TextEnvelope {
         final Locale locale,
         final Object... arguments
     ) {
-        this(ptn, locale, new ListOf<>(arguments));
+        this(ptn, locale, Arrays.asList(arguments));
+    }
+
+    /**
+     * New formatted string from a template with {@code {}} placeholders.
+     *
+     * @param template Template
+     * @param arguments Arguments
+     * @since 0.53
+     */
+    public FormattedText(final Template template, final Object... arguments) {
+        super(new TextOfScalar(() -> template.format(arguments)));
     }
 
     /**
@@ -138,11 +153,19 @@ public final class FormattedText extends TextEnvelope {
         super(
             new Mapped(
                 pattern -> {
-                    final StringBuilder out = new StringBuilder(pattern.length());
-                    try (Formatter fmt = new Formatter(out, locale)) {
-                        fmt.format(pattern, args.toArray());
+                    final String result;
+                    if (pattern.indexOf('%') < 0) {
+                        result = pattern;
+                    } else {
+                        final StringBuilder out = new StringBuilder(
+                            pattern.length()
+                        );
+                        try (Formatter fmt = new Formatter(out, locale)) {
+                            fmt.format(pattern, args.toArray());
+                        }
+                        result = out.toString();
                     }
-                    return out.toString();
+                    return result;
                 },
                 ptn
             )
@@ -0,0 +1,76 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import org.cactoos.Scalar;
+import org.cactoos.Text;
+
+/**
+ * Determines if a regular expression matches only itself, as a literal
+ * string, so it can be searched for without regex.
+ *
+ * <p>The regular expression is literal if it's not empty and has no
+ * meta characters <code>.$|()[{^?*+\</code>.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ * @since 0.53
+ */
+public final class IsLiteral implements Scalar<Boolean> {
+
+    /**
+     * Characters that make a string a regular expression.
+     */
+    private static final String META = ".$|()[{^?*+\\";
+
+    /**
+     * The regular expression.
+     */
+    private final Text regex;
+
+    /**
+     * Ctor.
+     * @param regex The regular expression
+     */
+    public IsLiteral(final CharSequence regex) {
+        this(new TextOfScalar(regex::toString));
+    }
+
+    /**
+     * Ctor.
+     * @param regex The regular expression
+     */
+    public IsLiteral(final Text regex) {
+        this.regex = regex;
+    }
+
+    @Override
+    public Boolean value() throws Exception {
+        final String str = this.regex.asString();
+        boolean literal = !str.isEmpty();
+        for (int idx = 0; literal && idx < str.length(); idx += 1) {
+            literal = IsLiteral.META.indexOf(str.charAt(idx)) < 0;
+        }
+        return literal;
+    }
+}
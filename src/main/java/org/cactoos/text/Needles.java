@@ -0,0 +1,181 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.LengthOf;
+import org.cactoos.scalar.Solid;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Dictionary of literal strings, searched for all at once.
+ *
+ * <p>It's an Aho-Corasick automaton, built once, on first use, and then
+ * shared by all the searches: the cost of a search grows with the length
+ * of the text, and not with the number of needles. Build it once and
+ * reuse it, like a {@link java.util.regex.Pattern}:</p>
+ *
+ * <pre>{@code
+ * final Needles secrets = new Needles("password", "token", "secret");
+ * for (final String line : lines) {
+ *     if (new ContainsAny(line, secrets).value()) {
+ *         ...
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>Needles can't be empty.</p>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @see ReplacedEach
+ * @see ContainsAny
+ * @since 0.53
+ */
+public final class Needles {
+
+    /**
+     * The automaton.
+     */
+    private final Unchecked<NeedlesAutomaton> table;
+
+    /**
+     * Ctor.
+     * @param needles The needles
+     */
+    public Needles(final CharSequence... needles) {
+        this(new IterableOf<>(needles));
+    }
+
+    /**
+     * Ctor.
+     * @param needles The needles
+     */
+    public Needles(final Iterable<? extends CharSequence> needles) {
+        this.table = new Unchecked<>(
+            new Solid<>(
+                () -> Needles.automaton(needles)
+            )
+        );
+    }
+
+    /**
+     * Does any needle occur in the text.
+     * @param text The text
+     * @return TRUE if it does
+     */
+    public boolean foundIn(final CharSequence text) {
+        final NeedlesAutomaton auto = this.table.value();
+        int state = 0;
+        boolean found = false;
+        for (int idx = 0; !found && idx < text.length(); idx += 1) {
+            state = auto.step(state, text.charAt(idx));
+            found = auto.output(state) >= 0;
+        }
+        return found;
+    }
+
+    /**
+     * Find the leftmost needle at or after the position, the longest one
+     * if a few needles start there.
+     * @param text The text
+     * @param from Where to start
+     * @return Start and end of the needle in the text and its index in
+     *  the dictionary, or an empty array if there are no more needles
+     */
+    public int[] find(final CharSequence text, final int from) {
+        final NeedlesAutomaton auto = this.table.value();
+        int state = 0;
+        int start = -1;
+        int needle = -1;
+        for (int idx = from; idx < text.length(); idx += 1) {
+            state = auto.step(state, text.charAt(idx));
+            final int out = auto.output(state);
+            if (out >= 0
+                && (start < 0 || idx - auto.length(out) + 1 <= start)) {
+                start = idx - auto.length(out) + 1;
+                needle = out;
+            }
+            if (start >= 0 && idx - auto.depth(state) + 1 > start) {
+                break;
+            }
+        }
+        final int[] found;
+        if (start < 0) {
+            found = new int[0];
+        } else {
+            found = new int[] {start, start + auto.length(needle), needle};
+        }
+        return found;
+    }
+
+    /**
+     * Build the automaton.
+     * @param needles The needles
+     * @return The automaton
+     * @throws Exception If fails
+     */
+    private static NeedlesAutomaton automaton(
+        final Iterable<? extends CharSequence> needles
+    ) throws Exception {
+        final List<Map<Character, Integer>> trie = Needles.trie(needles);
+        return new NeedlesAutomaton(
+            trie.size(), new LengthOf(needles).value().intValue()
+        )
+            .frozen(trie, needles)
+            .linked();
+    }
+
+    /**
+     * Build the trie of the needles.
+     * @param needles The needles
+     * @return Edges of every state, by their chars
+     */
+    private static List<Map<Character, Integer>> trie(
+        final Iterable<? extends CharSequence> needles
+    ) {
+        final List<Map<Character, Integer>> trie = new ArrayList<>(0);
+        trie.add(new TreeMap<>());
+        for (final CharSequence needle : needles) {
+            if (needle.length() == 0) {
+                throw new IllegalArgumentException("Needle can't be empty");
+            }
+            int state = 0;
+            for (int idx = 0; idx < needle.length(); idx += 1) {
+                Integer next = trie.get(state).get(needle.charAt(idx));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(needle.charAt(idx), next);
+                    trie.add(new TreeMap<>());
+                }
+                state = next;
+            }
+        }
+        return trie;
+    }
+}
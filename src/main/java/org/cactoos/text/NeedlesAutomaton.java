@@ -0,0 +1,230 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton of {@link Needles}, packed into arrays.
+ *
+ * <p>States are numbered as in the trie, zero is the root. The edges of
+ * a state are a run of {@link #chars} and {@link #targets}, sorted by
+ * their chars, which starts at {@link #offset} and has {@link #count}
+ * edges.</p>
+ *
+ * <p>This class is for internal use only, by {@link Needles}.</p>
+ *
+ * <p>There is no thread-safety guarantee while it's being built.
+ *
+ * @since 0.53
+ */
+final class NeedlesAutomaton {
+
+    /**
+     * Failure link of every state.
+     */
+    private final int[] fail;
+
+    /**
+     * Depth of every state in the trie.
+     */
+    private final int[] depth;
+
+    /**
+     * Index of the longest needle ending at every state, or -1.
+     */
+    private final int[] output;
+
+    /**
+     * Position of the first edge of every state.
+     */
+    private final int[] offset;
+
+    /**
+     * Number of edges of every state.
+     */
+    private final int[] count;
+
+    /**
+     * Char of every edge.
+     */
+    private final char[] chars;
+
+    /**
+     * Target state of every edge.
+     */
+    private final int[] targets;
+
+    /**
+     * Length of every needle.
+     */
+    private final int[] lengths;
+
+    /**
+     * Ctor.
+     * @param states Number of states
+     * @param needles Number of needles
+     */
+    NeedlesAutomaton(final int states, final int needles) {
+        this.fail = new int[states];
+        this.depth = new int[states];
+        this.output = new int[states];
+        this.offset = new int[states];
+        this.count = new int[states];
+        this.chars = new char[states - 1];
+        this.targets = new int[states - 1];
+        this.lengths = new int[needles];
+    }
+
+    /**
+     * Move the automaton by one char.
+     * @param state Current state
+     * @param chr The char
+     * @return Next state
+     */
+    int step(final int state, final char chr) {
+        int current = state;
+        int next = this.edge(current, chr);
+        while (next < 0 && current > 0) {
+            current = this.fail[current];
+            next = this.edge(current, chr);
+        }
+        return Math.max(next, 0);
+    }
+
+    /**
+     * The longest needle ending at the state.
+     * @param state The state
+     * @return Index of the needle, or -1 if none
+     */
+    int output(final int state) {
+        return this.output[state];
+    }
+
+    /**
+     * Depth of the state in the trie.
+     * @param state The state
+     * @return Depth
+     */
+    int depth(final int state) {
+        return this.depth[state];
+    }
+
+    /**
+     * Length of the needle.
+     * @param needle Index of the needle
+     * @return Length
+     */
+    int length(final int needle) {
+        return this.lengths[needle];
+    }
+
+    /**
+     * Pack the trie, with depths of states, needles ending at them and
+     * lengths of needles, but without failure links yet.
+     * @param trie Edges of every state, by their chars
+     * @param needles The needles
+     * @return This automaton
+     */
+    NeedlesAutomaton frozen(final List<Map<Character, Integer>> trie,
+        final Iterable<? extends CharSequence> needles) {
+        Arrays.fill(this.output, -1);
+        int edges = 0;
+        for (int state = 0; state < trie.size(); state += 1) {
+            this.offset[state] = edges;
+            this.count[state] = trie.get(state).size();
+            for (final Map.Entry<Character, Integer> edge
+                : trie.get(state).entrySet()) {
+                this.chars[edges] = edge.getKey();
+                this.targets[edges] = edge.getValue();
+                this.depth[edge.getValue()] = this.depth[state] + 1;
+                edges += 1;
+            }
+        }
+        int idx = 0;
+        for (final CharSequence needle : needles) {
+            int state = 0;
+            for (int pos = 0; pos < needle.length(); pos += 1) {
+                state = this.edge(state, needle.charAt(pos));
+            }
+            if (this.output[state] < 0) {
+                this.output[state] = idx;
+            }
+            this.lengths[idx] = needle.length();
+            idx += 1;
+        }
+        return this;
+    }
+
+    /**
+     * Add failure links, going through the states in the order of
+     * their depth.
+     * @return This automaton
+     */
+    NeedlesAutomaton linked() {
+        final Queue<Integer> queue = new LinkedList<>();
+        queue.add(0);
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            final int end = this.offset[state] + this.count[state];
+            for (int pos = this.offset[state]; pos < end; pos += 1) {
+                final int child = this.targets[pos];
+                int link = 0;
+                if (state > 0) {
+                    link = this.step(this.fail[state], this.chars[pos]);
+                }
+                this.fail[child] = link;
+                if (this.output[child] < 0) {
+                    this.output[child] = this.output[link];
+                }
+                queue.add(child);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Follow the edge of the trie.
+     * @param state The state
+     * @param chr The char on the edge
+     * @return The target state, or -1 if there is no such edge
+     */
+    private int edge(final int state, final char chr) {
+        final int pos = Arrays.binarySearch(
+            this.chars, this.offset[state],
+            this.offset[state] + this.count[state], chr
+        );
+        final int next;
+        if (pos < 0) {
+            next = -1;
+        } else {
+            next = this.targets[pos];
+        }
+        return next;
+    }
+}
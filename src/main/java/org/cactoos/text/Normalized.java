@@ -29,6 +29,11 @@ import org.cactoos.Text;
  * Normalize (replace sequences of whitespace characters by a single space)
  * a Text.
  *
+ * <p>The text is trimmed of control characters (char &lt;= 32), like
+ * {@link Trimmed} does, and every run of {@code \s} characters inside
+ * is replaced with a single space, like {@link Replaced} would do, but
+ * in one pass and without regex.</p>
+ *
  * @since 0.9
  */
 public final class Normalized extends TextEnvelope {
@@ -47,10 +52,33 @@ public final class Normalized extends TextEnvelope {
      */
     public Normalized(final Text text) {
         super(
-            new Replaced(
-                new Trimmed(text),
-                "\\s+",
-                " "
+            new Mapped(
+                str -> {
+                    int start = 0;
+                    int end = str.length();
+                    while (start < end && str.charAt(start) <= ' ') {
+                        start += 1;
+                    }
+                    while (end > start && str.charAt(end - 1) <= ' ') {
+                        end -= 1;
+                    }
+                    final StringBuilder out = new StringBuilder(end - start);
+                    boolean space = false;
+                    for (int idx = start; idx < end; idx += 1) {
+                        final char chr = str.charAt(idx);
+                        if (" \t\n\u000B\f\r".indexOf(chr) >= 0) {
+                            space = true;
+                        } else {
+                            if (space) {
+                                out.append(' ');
+                                space = false;
+                            }
+                            out.append(chr);
+                        }
+                    }
+                    return out.toString();
+                },
+                text
             )
         );
     }
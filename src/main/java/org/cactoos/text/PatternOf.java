@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Pattern;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.Text;
+import org.cactoos.func.SolidFunc;
+
+/**
+ * Compiled regular expression, taken from a cache shared by all
+ * instances.
+ *
+ * <p>The cache keeps up to 256 patterns, so decorators created in
+ * a loop, like {@link Replaced}, don't compile the same regular
+ * expression again and again. It's a {@link SolidFunc}, so cache hits
+ * don't lock anything, and threads don't wait for each other, unless
+ * they compile the same expression. When the cache is full, arbitrary
+ * patterns are evicted.</p>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 0.53
+ */
+public final class PatternOf implements Scalar<Pattern> {
+
+    /**
+     * Max number of patterns in the cache.
+     */
+    private static final int MAX = 256;
+
+    /**
+     * Patterns compiled, by regular expression.
+     */
+    private static final Func<String, Pattern> CACHE = new SolidFunc<>(
+        Pattern::compile, PatternOf.MAX
+    );
+
+    /**
+     * The regular expression.
+     */
+    private final Text regex;
+
+    /**
+     * Ctor.
+     * @param regex The regular expression
+     */
+    public PatternOf(final CharSequence regex) {
+        this(new TextOfScalar(regex::toString));
+    }
+
+    /**
+     * Ctor.
+     * @param regex The regular expression
+     */
+    public PatternOf(final Text regex) {
+        this.regex = regex;
+    }
+
+    @Override
+    public Pattern value() throws Exception {
+        return PatternOf.CACHE.apply(this.regex.asString());
+    }
+}
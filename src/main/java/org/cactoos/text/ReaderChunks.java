@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import org.cactoos.Text;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Iterator over chunks of a {@link Reader}, one buffer at a time.
+ *
+ * <p>A chunk never ends in the middle of a surrogate pair, so every
+ * chunk can be transformed on its own. The reader is closed once
+ * it is exhausted.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class ReaderChunks implements Iterator<Text> {
+
+    /**
+     * The reader.
+     */
+    private final Reader reader;
+
+    /**
+     * The buffer, with a high surrogate held over at its head.
+     */
+    private final char[] buffer;
+
+    /**
+     * Chunks read, but not yet returned.
+     */
+    private final Queue<Text> ahead;
+
+    /**
+     * Chars held over from the previous read, or -1 after EOF.
+     */
+    private int held;
+
+    /**
+     * Ctor.
+     * @param reader The reader
+     * @param size Max chunk size in chars, at least two
+     */
+    public ReaderChunks(final Reader reader, final int size) {
+        this.reader = reader;
+        this.buffer = new char[ReaderChunks.checked(size)];
+        this.ahead = new LinkedList<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.ahead.isEmpty() && this.held >= 0) {
+            new Unchecked<>(
+                () -> {
+                    this.fetch();
+                    return true;
+                }
+            ).value();
+        }
+        return !this.ahead.isEmpty();
+    }
+
+    @Override
+    public Text next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more chunks in the reader"
+            );
+        }
+        return this.ahead.poll();
+    }
+
+    /**
+     * Read the next chunk, or close the reader at its end.
+     * @throws IOException If fails
+     */
+    private void fetch() throws IOException {
+        int total = this.held;
+        while (this.ahead.isEmpty()) {
+            final int read = this.reader.read(
+                this.buffer, total, this.buffer.length - total
+            );
+            if (read < 0) {
+                if (total > 0) {
+                    this.ahead.add(
+                        new TextOfString(new String(this.buffer, 0, total))
+                    );
+                }
+                this.held = -1;
+                this.reader.close();
+                break;
+            }
+            total += read;
+            int len = total;
+            if (Character.isHighSurrogate(this.buffer[total - 1])) {
+                len -= 1;
+            }
+            if (len > 0) {
+                this.ahead.add(
+                    new TextOfString(new String(this.buffer, 0, len))
+                );
+                System.arraycopy(
+                    this.buffer, len, this.buffer, 0, total - len
+                );
+                total -= len;
+            }
+            this.held = total;
+        }
+    }
+
+    /**
+     * Check the chunk size.
+     * @param size Max chunk size in chars
+     * @return The same size, if it is at least two
+     */
+    private static int checked(final int size) {
+        if (size < 2) {
+            throw new IllegalArgumentException(
+                String.format("Chunk size must be at least 2, got %d", size)
+            );
+        }
+        return size;
+    }
+}
@@ -34,6 +34,11 @@ import org.cactoos.Text;
 /**
  * Replace the Text.
  *
+ * <p>A regular expression without meta characters, with a replacement
+ * without group references, is replaced as a plain string, with
+ * {@link String#indexOf(String, int)}. Other regular expressions are
+ * compiled once and taken from the cache of {@link PatternOf}.</p>
+ *
  * @since 0.2
  */
 public final class Replaced extends TextEnvelope {
@@ -52,7 +57,25 @@ public final class Replaced extends TextEnvelope {
         final CharSequence find,
         final CharSequence replace
     ) {
-        this(text, () -> Pattern.compile(find.toString()), matcher -> replace);
+        super(
+            new Mapped(
+                str -> {
+                    final String needle = find.toString();
+                    final String rplc = replace.toString();
+                    final String result;
+                    if (new IsLiteral(needle).value()
+                        && rplc.indexOf('$') < 0 && rplc.indexOf('\\') < 0) {
+                        result = Replaced.literally(str, needle, rplc);
+                    } else {
+                        result = Replaced.replaced(
+                            str, new PatternOf(needle).value(), matcher -> rplc
+                        );
+                    }
+                    return result;
+                },
+                text
+            )
+        );
     }
 
     /**
@@ -86,20 +109,68 @@ public final class Replaced extends TextEnvelope {
     ) {
         super(
             new Mapped(
-                str -> {
-                    final StringBuffer buffer = new StringBuffer();
-                    final Matcher matcher = regex.value().matcher(str);
-                    while (matcher.find()) {
-                        matcher.appendReplacement(
-                            buffer,
-                            func.apply(matcher).toString()
-                        );
-                    }
-                    matcher.appendTail(buffer);
-                    return buffer.toString();
-                },
+                str -> Replaced.replaced(str, regex.value(), func),
                 text
             )
         );
     }
+
+    /**
+     * Replace all the occurrences of a string.
+     * @param str The string
+     * @param needle The string to find
+     * @param rplc The replacement
+     * @return The string with replacements
+     */
+    private static String literally(
+        final String str,
+        final String needle,
+        final String rplc
+    ) {
+        int idx = str.indexOf(needle);
+        final String result;
+        if (idx < 0) {
+            result = str;
+        } else {
+            final StringBuilder out = new StringBuilder(str.length());
+            int pos = 0;
+            while (idx >= 0) {
+                out.append(str, pos, idx).append(rplc);
+                pos = idx + needle.length();
+                idx = str.indexOf(needle, pos);
+            }
+            result = out.append(str, pos, str.length()).toString();
+        }
+        return result;
+    }
+
+    /**
+     * Replace all the matches of a pattern.
+     * @param str The string
+     * @param pattern The pattern
+     * @param func Transforms the matcher into a replacement string
+     * @return The string with replacements
+     * @throws Exception If fails
+     */
+    private static String replaced(
+        final String str,
+        final Pattern pattern,
+        final Func<? super Matcher, ? extends CharSequence> func
+    ) throws Exception {
+        final Matcher matcher = pattern.matcher(str);
+        final String result;
+        if (matcher.find()) {
+            final StringBuilder out = new StringBuilder(str.length());
+            int pos = 0;
+            do {
+                out.append(str, pos, matcher.start());
+                new Replacement(func.apply(matcher)).appendTo(out, matcher);
+                pos = matcher.end();
+            } while (matcher.find());
+            result = out.append(str, pos, str.length()).toString();
+        } else {
+            result = str;
+        }
+        return result;
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.Text;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Chunks of a text with the matches replaced, streaming
+ * version of {@link Replaced}.
+ *
+ * <p>The pattern is compiled once per iteration. A match that touches
+ * the end of a chunk is postponed until the next chunk comes, so
+ * matches across chunk borders are found as long as they are not
+ * longer than the {@code overlap}. A longer match is not held back:
+ * it is replaced at the chunk end, and the rest of it is matched
+ * again in the next chunk, so no more than {@code overlap} chars are
+ * ever kept in memory besides the chunk. Anchors and look-behinds see
+ * only the current chunk and the characters carried over from the
+ * previous one.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class ReplacedChunks extends IterableEnvelope<Text> {
+
+    /**
+     * Default overlap between chunks, in chars.
+     */
+    private static final int OVERLAP = 1 << 10;
+
+    /**
+     * Ctor.
+     * @param chunks The chunks of the text
+     * @param find The regular expression
+     * @param replace The replacement string
+     */
+    public ReplacedChunks(
+        final Iterable<? extends Text> chunks,
+        final CharSequence find,
+        final CharSequence replace
+    ) {
+        this(
+            chunks,
+            new PatternOf(find),
+            matcher -> replace
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param chunks The chunks of the text
+     * @param regex The regular expression
+     * @param func Transforms the matcher into a replacement string
+     */
+    public ReplacedChunks(
+        final Iterable<? extends Text> chunks,
+        final Scalar<Pattern> regex,
+        final Func<? super Matcher, ? extends CharSequence> func
+    ) {
+        this(chunks, regex, func, ReplacedChunks.OVERLAP);
+    }
+
+    /**
+     * Ctor.
+     * @param chunks The chunks of the text
+     * @param regex The regular expression
+     * @param func Transforms the matcher into a replacement string
+     * @param overlap Max length of a match across chunk borders
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ReplacedChunks(
+        final Iterable<? extends Text> chunks,
+        final Scalar<Pattern> regex,
+        final Func<? super Matcher, ? extends CharSequence> func,
+        final int overlap
+    ) {
+        super(
+            new IterableOf<>(
+                () -> new ReplacedChunksIterator(
+                    chunks.iterator(), regex.value(), func, overlap
+                )
+            )
+        );
+    }
+}
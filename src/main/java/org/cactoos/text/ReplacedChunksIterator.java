@@ -0,0 +1,226 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cactoos.Func;
+import org.cactoos.Text;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Iterator over chunks of a text with the matches of a pattern replaced.
+ *
+ * <p>A match that touches the end of a chunk is postponed until the next
+ * chunk comes, if it starts within the last {@code overlap} chars of the
+ * chunk. A longer match is replaced as it is, at the end of the chunk,
+ * and the rest of it is matched again in the next chunk. Thus no more
+ * than {@code overlap} chars are carried over from one chunk to another,
+ * whatever the pattern.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see ReplacedChunks
+ * @since 0.53
+ */
+public final class ReplacedChunksIterator implements Iterator<Text> {
+
+    /**
+     * Chunks of the text.
+     */
+    private final Iterator<? extends Text> chunks;
+
+    /**
+     * The pattern.
+     */
+    private final Pattern pattern;
+
+    /**
+     * Transforms the matcher into a replacement string.
+     */
+    private final Func<? super Matcher, ? extends CharSequence> func;
+
+    /**
+     * Max number of chars carried over to the next chunk.
+     */
+    private final int overlap;
+
+
+    /**
+     * Chunks replaced, but not yet returned.
+     */
+    private final Queue<Text> ahead;
+
+    /**
+     * Chars carried over to the next chunk.
+     */
+    private String carry;
+
+    /**
+     * An empty match ended right before the carry.
+     */
+    private boolean bump;
+
+    /**
+     * All chunks are replaced.
+     */
+    private boolean done;
+
+    /**
+     * Ctor.
+     * @param chunks Chunks of the text
+     * @param pattern The pattern
+     * @param func Transforms the matcher into a replacement string
+     * @param overlap Max number of chars carried over to the next chunk
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ReplacedChunksIterator(
+        final Iterator<? extends Text> chunks,
+        final Pattern pattern,
+        final Func<? super Matcher, ? extends CharSequence> func,
+        final int overlap
+    ) {
+        this.chunks = chunks;
+        this.pattern = pattern;
+        this.func = func;
+        this.overlap = overlap;
+        this.carry = "";
+        this.ahead = new LinkedList<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (this.ahead.isEmpty() && !this.done) {
+            new Unchecked<>(
+                () -> {
+                    if (this.chunks.hasNext()) {
+                        this.replace(this.chunks.next().asString(), false);
+                    } else {
+                        this.replace("", true);
+                        this.done = true;
+                    }
+                    return true;
+                }
+            ).value();
+        }
+        return !this.ahead.isEmpty();
+    }
+
+    @Override
+    public Text next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more chunks in the text"
+            );
+        }
+        return this.ahead.poll();
+    }
+
+    /**
+     * Replace the matches in the carry and the next chunk.
+     * @param chunk The chunk
+     * @param last It's the end of the text
+     * @throws Exception If fails
+     */
+    private void replace(final String chunk, final boolean last)
+        throws Exception {
+        final String str = this.carry.concat(chunk);
+        final Matcher matcher = this.pattern.matcher(str);
+        final StringBuilder out = new StringBuilder(str.length());
+        boolean found = this.first(matcher, str);
+        boolean empty = this.bump;
+        int pos = 0;
+        while (found && !this.postponed(matcher, str, last)) {
+            out.append(str, pos, matcher.start());
+            new Replacement(this.func.apply(matcher)).appendTo(out, matcher);
+            empty = matcher.start() == matcher.end();
+            pos = matcher.end();
+            found = matcher.find();
+        }
+        final int keep = this.kept(matcher, str, found, pos, last);
+        out.append(str, pos, keep);
+        this.carry = str.substring(keep);
+        this.bump = keep == pos && empty;
+        if (out.length() > 0) {
+            this.ahead.add(new TextOfString(out.toString()));
+        }
+    }
+
+    /**
+     * Find the first match, skipping an empty one right at the start,
+     * if an empty match ended there in the previous chunk.
+     * @param matcher The matcher
+     * @param str The carry and the chunk
+     * @return TRUE if found
+     */
+    private boolean first(final Matcher matcher, final String str) {
+        final boolean found;
+        if (this.bump) {
+            found = !str.isEmpty() && matcher.find(1);
+        } else {
+            found = matcher.find();
+        }
+        return found;
+    }
+
+    /**
+     * Should the match wait for the next chunk? It should, if it touches
+     * the end of the chunk and starts within the overlap.
+     * @param matcher The matcher, with a match found
+     * @param str The carry and the chunk
+     * @param last It's the end of the text
+     * @return TRUE if it should
+     */
+    private boolean postponed(final Matcher matcher, final String str,
+        final boolean last) {
+        return !last && matcher.hitEnd()
+            && matcher.start() > str.length() - this.overlap;
+    }
+
+    /**
+     * Position where the chars to carry over to the next chunk start.
+     * @param matcher The matcher
+     * @param str The carry and the chunk
+     * @param found A match is postponed
+     * @param pos End of the last replaced match
+     * @param last It's the end of the text
+     * @return The position
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private int kept(final Matcher matcher, final String str,
+        final boolean found, final int pos, final boolean last) {
+        int keep = str.length();
+        if (found) {
+            keep = matcher.start();
+        }
+        if (!last && keep == str.length() && matcher.hitEnd()) {
+            keep = Math.max(pos, keep - this.overlap);
+        }
+        return keep;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.Map;
+import org.cactoos.Func;
+import org.cactoos.Text;
+
+/**
+ * Text with every occurrence of a few literal strings replaced, in one
+ * pass.
+ *
+ * <p>The text is scanned once with {@link Needles}, whatever the size of
+ * the dictionary. At every position the leftmost needle wins, and the
+ * longest one of those starting at the same position; the replaced
+ * parts don't overlap and are not scanned again.</p>
+ *
+ * <p>Building the automaton of the needles costs more than a scan, so
+ * when many texts are replaced with the same dictionary, build the
+ * {@link Needles} once and reuse them with the
+ * {@link #ReplacedEach(Text, Needles, Func)} constructor. The
+ * constructors with a {@link Map} build new needles every time:</p>
+ *
+ * <pre>{@code
+ * final Map<String, String> swap = new MapOf<String, String>(
+ *     new MapEntry<>("he", "she"),
+ *     new MapEntry<>("she", "he")
+ * );
+ * final Needles needles = new Needles(swap.keySet());
+ * new ReplacedEach(
+ *     new TextOf("he said: she is"), needles, swap::get
+ * ).asString(); // "she said: he is"
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Replaced
+ * @since 0.53
+ */
+public final class ReplacedEach extends TextEnvelope {
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param dict Needles and their replacements
+     */
+    public ReplacedEach(
+        final CharSequence text,
+        final Map<String, ? extends CharSequence> dict
+    ) {
+        this(new TextOf(text), dict);
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param dict Needles and their replacements
+     */
+    public ReplacedEach(
+        final Text text,
+        final Map<String, ? extends CharSequence> dict
+    ) {
+        this(text, new Needles(dict.keySet()), dict::get);
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param needles The needles
+     * @param func Transforms a found needle into its replacement
+     */
+    public ReplacedEach(
+        final Text text,
+        final Needles needles,
+        final Func<? super String, ? extends CharSequence> func
+    ) {
+        super(
+            new Mapped(
+                str -> {
+                    int[] found = needles.find(str, 0);
+                    final String result;
+                    if (found.length == 0) {
+                        result = str;
+                    } else {
+                        final StringBuilder out = new StringBuilder(
+                            str.length()
+                        );
+                        int pos = 0;
+                        while (found.length > 0) {
+                            out.append(str, pos, found[0]).append(
+                                func.apply(str.substring(found[0], found[1]))
+                            );
+                            pos = found[1];
+                            found = needles.find(str, pos);
+                        }
+                        result = out.append(str, pos, str.length()).toString();
+                    }
+                    return result;
+                },
+                text
+            )
+        );
+    }
+}
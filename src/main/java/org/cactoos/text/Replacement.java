@@ -0,0 +1,158 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Matcher;
+
+/**
+ * Replacement string of a regex match, with group references
+ * ({@code $1}, {@code ${name}}) and escapes ({@code \$}) expanded the same
+ * way {@link Matcher#appendReplacement} does it, but appended to
+ * a {@link StringBuilder}.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Replaced
+ * @since 0.53
+ */
+public final class Replacement {
+
+    /**
+     * The replacement string.
+     */
+    private final String rplc;
+
+    /**
+     * Ctor.
+     * @param rplc The replacement string
+     */
+    public Replacement(final CharSequence rplc) {
+        this.rplc = rplc.toString();
+    }
+
+    /**
+     * Append the expanded replacement.
+     * @param out Where to append
+     * @param matcher The matcher, at the match to replace
+     * @return The same builder
+     */
+    public StringBuilder appendTo(
+        final StringBuilder out,
+        final Matcher matcher
+    ) {
+        int cursor = 0;
+        while (cursor < this.rplc.length()) {
+            final char next = this.rplc.charAt(cursor);
+            if (next == '\\') {
+                cursor = this.escaped(out, cursor + 1);
+            } else if (next == '$') {
+                cursor = this.group(out, matcher, cursor + 1);
+            } else {
+                out.append(next);
+                cursor += 1;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Append an escaped char.
+     * @param out Where to append
+     * @param cursor Position of the char
+     * @return Position after the char
+     */
+    private int escaped(final StringBuilder out, final int cursor) {
+        if (cursor == this.rplc.length()) {
+            throw new IllegalArgumentException(
+                "character to be escaped is missing"
+            );
+        }
+        out.append(this.rplc.charAt(cursor));
+        return cursor + 1;
+    }
+
+    /**
+     * Append a group referenced by name or number.
+     * @param out Where to append
+     * @param matcher The matcher
+     * @param cursor Position of the reference, after the dollar sign
+     * @return Position after the reference
+     */
+    private int group(
+        final StringBuilder out,
+        final Matcher matcher,
+        final int cursor
+    ) {
+        if (cursor == this.rplc.length()) {
+            throw new IllegalArgumentException(
+                "Illegal group reference: group index is missing"
+            );
+        }
+        final int after;
+        final String group;
+        if (this.rplc.charAt(cursor) == '{') {
+            after = this.rplc.indexOf('}', cursor) + 1;
+            if (after == 0) {
+                throw new IllegalArgumentException(
+                    "named capturing group is missing trailing '}'"
+                );
+            }
+            group = matcher.group(this.rplc.substring(cursor + 1, after - 1));
+        } else {
+            after = this.numbered(matcher, cursor);
+            group = matcher.group(
+                Integer.parseInt(this.rplc.substring(cursor, after))
+            );
+        }
+        if (group != null) {
+            out.append(group);
+        }
+        return after;
+    }
+
+    /**
+     * Find the end of a numbered group reference: as many digits as
+     * still make an existing group.
+     * @param matcher The matcher
+     * @param cursor Position of the first digit
+     * @return Position after the last digit
+     */
+    private int numbered(final Matcher matcher, final int cursor) {
+        int num = this.rplc.charAt(cursor) - '0';
+        if (num < 0 || num > 9) {
+            throw new IllegalArgumentException("Illegal group reference");
+        }
+        int after = cursor + 1;
+        while (after < this.rplc.length()) {
+            final int digit = this.rplc.charAt(after) - '0';
+            if (digit < 0 || digit > 9
+                || matcher.groupCount() < num * 10 + digit) {
+                break;
+            }
+            num = num * 10 + digit;
+            after += 1;
+        }
+        return after;
+    }
+}
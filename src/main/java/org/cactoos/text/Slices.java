@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import org.cactoos.Text;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Pieces of a text split around the matches of a regular expression,
+ * as zero-copy {@link CharSequence} views.
+ *
+ * <p>Works like {@link String#split(String, int)}, but lazily: the text is
+ * scanned only as far as the next piece needs. The pattern is taken
+ * from the cache of {@link PatternOf}, and not compiled at all for
+ * a delimiter without regex meta characters. See {@link SplitIterator}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Split
+ * @since 0.53
+ */
+public final class Slices extends IterableEnvelope<CharSequence> {
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param rgx The regex
+     * @see String#split(String)
+     */
+    public Slices(final CharSequence text, final CharSequence rgx) {
+        this(text, rgx, 0);
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param rgx The regex
+     * @param lmt The limit
+     * @see String#split(String, int)
+     */
+    public Slices(
+        final CharSequence text,
+        final CharSequence rgx,
+        final int lmt
+    ) {
+        this(
+            new TextOfScalar(text::toString),
+            new TextOfScalar(rgx::toString),
+            lmt
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param text The text
+     * @param rgx The regex
+     * @param lmt The limit
+     * @see String#split(String, int)
+     */
+    public Slices(final Text text, final Text rgx, final int lmt) {
+        this(new IterableOf<>(text), rgx, lmt);
+    }
+
+    /**
+     * Ctor.
+     * @param chunks Chunks of the text
+     * @param rgx The regex
+     * @param lmt The limit
+     * @see String#split(String, int)
+     */
+    public Slices(
+        final Iterable<? extends Text> chunks,
+        final Text rgx,
+        final int lmt
+    ) {
+        super(
+            new IterableOf<>(
+                () -> {
+                    final String regex = rgx.asString();
+                    return new SplitIterator(
+                        chunks.iterator(), regex, new PatternOf(regex), lmt
+                    );
+                }
+            )
+        );
+    }
+}
@@ -23,15 +23,20 @@
  */
 package org.cactoos.text;
 
+import java.io.Reader;
+import org.cactoos.Input;
 import org.cactoos.Text;
 import org.cactoos.iterable.IterableEnvelope;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
-import org.cactoos.iterator.IteratorOf;
 
 /**
  * Split the Text.
  *
+ * <p>The text is split lazily, piece by piece, and may come from
+ * an {@link Input} or a {@link Reader} too, read in chunks.
+ * Use {@link Slices} to get the pieces without copying them.</p>
+ *
  * @see String#split(String)
  * @see String#split(String, int)
  * @since 0.9
@@ -120,12 +125,45 @@ public final class Split extends IterableEnvelope<Text> {
      * @see String#split(String, int)
      */
     public Split(final Text text, final Text rgx, final int lmt) {
+        this(new IterableOf<>(text), rgx, lmt);
+    }
+
+    /**
+     * Ctor.
+     * @param input The input, in UTF-8
+     * @param rgx The regex
+     * @see String#split(String)
+     */
+    public Split(final Input input, final CharSequence rgx) {
+        this(new ChunksOf(input), new TextOf(rgx), 0);
+    }
+
+    /**
+     * Ctor.
+     * @param reader The reader, can be iterated only once
+     * @param rgx The regex
+     * @see String#split(String)
+     */
+    public Split(final Reader reader, final CharSequence rgx) {
+        this(new ChunksOf(reader), new TextOf(rgx), 0);
+    }
+
+    /**
+     * Ctor.
+     * @param chunks Chunks of the text
+     * @param rgx The regex
+     * @param lmt The limit
+     * @see String#split(String, int)
+     */
+    public Split(
+        final Iterable<? extends Text> chunks,
+        final Text rgx,
+        final int lmt
+    ) {
         super(
             new Mapped<>(
-                TextOf::new,
-                new IterableOf<>(
-                    () -> new IteratorOf<>(text.asString().split(rgx.asString(), lmt))
-                )
+                slice -> new TextOfString(slice.toString()),
+                new Slices(chunks, rgx, lmt)
             )
         );
     }
@@ -0,0 +1,376 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.nio.CharBuffer;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cactoos.Scalar;
+import org.cactoos.Text;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Lazy iterator over the pieces of a text split around the matches of
+ * a regular expression, the same way {@link String#split(String, int)}
+ * does it.
+ *
+ * <p>The text comes in chunks and is scanned only as far as the next
+ * piece needs. A delimiter without regex meta characters is searched
+ * with {@link String#indexOf(String, int)} and the pattern is never
+ * compiled. Pieces are read-only {@link CharBuffer} views over the
+ * chunk they were found in, no chars are copied. A single chunk is
+ * never copied at all; a piece that spans a few chunks is collected
+ * in a growing builder, which lives only until the piece is found, and
+ * is copied out of it once.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ * @checkstyle ParameterNumberCheck (200 lines)
+ */
+@SuppressWarnings("PMD.TooManyFields")
+public final class SplitIterator implements Iterator<CharSequence> {
+
+    /**
+     * How far back to retry a regex that failed at the end of a chunk.
+     */
+    private static final int OVERLAP = 1 << 10;
+
+    /**
+     * Chunks of the text.
+     */
+    private final Iterator<? extends Text> chunks;
+
+    /**
+     * The delimiter if it's a literal, or an empty string.
+     */
+    private final String literal;
+
+    /**
+     * The compiled regular expression.
+     */
+    private final Unchecked<Pattern> pattern;
+
+    /**
+     * The limit, as in {@link String#split(String, int)}.
+     */
+    private final int limit;
+
+    /**
+     * Pieces found, but not yet returned.
+     */
+    private final Queue<CharSequence> ahead;
+
+    /**
+     * The text not yet returned, at and after {@link #pos}: the last
+     * chunk, or a {@link StringBuilder} with an unfinished piece and the
+     * chunks after it, when a piece spans a few chunks.
+     */
+    private CharSequence buffer;
+
+    /**
+     * Start of the next piece in the buffer.
+     */
+    private int pos;
+
+    /**
+     * Where to look for the next delimiter in the buffer.
+     */
+    private int from;
+
+    /**
+     * Delimiters found so far.
+     */
+    private int cuts;
+
+    /**
+     * Empty pieces held back, since trailing ones are dropped.
+     */
+    private int empties;
+
+    /**
+     * There are no more chunks.
+     */
+    private boolean last;
+
+    /**
+     * All pieces are found.
+     */
+    private boolean done;
+
+    /**
+     * Ctor.
+     * @param chunks Chunks of the text
+     * @param regex The delimiter, a regular expression
+     * @param pattern The delimiter, compiled
+     * @param limit The limit, as in {@link String#split(String, int)}
+     */
+    public SplitIterator(
+        final Iterator<? extends Text> chunks,
+        final String regex,
+        final Scalar<Pattern> pattern,
+        final int limit
+    ) {
+        this.chunks = chunks;
+        this.literal = SplitIterator.literalOf(regex);
+        this.pattern = new Unchecked<>(pattern);
+        this.limit = limit;
+        this.ahead = new LinkedList<>();
+        this.buffer = "";
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (this.ahead.isEmpty() && !this.done) {
+            this.advance();
+        }
+        return !this.ahead.isEmpty();
+    }
+
+    @Override
+    public CharSequence next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more pieces in the text"
+            );
+        }
+        return this.ahead.poll();
+    }
+
+    /**
+     * Find the next delimiter, or read one more chunk.
+     */
+    private void advance() {
+        if (this.limit > 0 && this.cuts == this.limit - 1) {
+            while (!this.last) {
+                this.more();
+            }
+            this.finish();
+        } else if (!this.delimited()) {
+            this.exhausted();
+        }
+    }
+
+    /**
+     * Find the next delimiter in the buffer and cut a piece at it.
+     * @return TRUE if found
+     */
+    private boolean delimited() {
+        final boolean found;
+        if (this.literal.isEmpty()) {
+            found = this.matched();
+        } else {
+            found = this.literally();
+        }
+        return found;
+    }
+
+    /**
+     * Find the literal delimiter and cut a piece at it. If it is not
+     * found, the next search starts where its prefix may begin.
+     * @return TRUE if found
+     */
+    private boolean literally() {
+        final int start = this.indexOf(this.literal);
+        if (start >= 0) {
+            this.cut(start, start + this.literal.length());
+        } else if (!this.last) {
+            this.from = Math.max(
+                this.from, this.buffer.length() - this.literal.length() + 1
+            );
+        }
+        return start >= 0;
+    }
+
+    /**
+     * Match the regular expression and cut a piece at the match.
+     * @return TRUE if found
+     */
+    private boolean matched() {
+        boolean found = false;
+        if (this.from <= this.buffer.length()) {
+            found = this.matched(this.pattern.value().matcher(this.buffer));
+        }
+        return found;
+    }
+
+    /**
+     * Match the regular expression and cut a piece at the match, if
+     * more chunks can't change the match. Otherwise, the next search
+     * starts not farther than {@link #OVERLAP} chars back from the end.
+     * @param matcher The matcher over the buffer
+     * @return TRUE if found
+     */
+    private boolean matched(final Matcher matcher) {
+        final boolean hit = matcher.find(this.from);
+        final boolean sure = this.last || !matcher.hitEnd();
+        if (sure && hit) {
+            this.cut(matcher.start(), matcher.end());
+        } else if (sure) {
+            this.from = Math.max(this.from, this.buffer.length());
+        } else if (!hit) {
+            this.from = Math.max(
+                this.from, this.buffer.length() - SplitIterator.OVERLAP
+            );
+        }
+        return sure && hit;
+    }
+
+    /**
+     * No delimiter is in the buffer: read one more chunk, or return
+     * the rest of the text.
+     */
+    private void exhausted() {
+        if (this.last) {
+            this.finish();
+        } else {
+            this.more();
+        }
+    }
+
+    /**
+     * Cut a piece at the delimiter.
+     * @param start Start of the delimiter
+     * @param end End of the delimiter
+     */
+    private void cut(final int start, final int end) {
+        if (this.cuts > 0 || this.pos > 0 || end > 0) {
+            this.piece(this.pos, start);
+            this.cuts += 1;
+            this.pos = end;
+        }
+        this.from = end;
+        if (start == end) {
+            this.from += 1;
+        }
+    }
+
+    /**
+     * Return the rest of the text as the last piece.
+     */
+    private void finish() {
+        if (this.cuts == 0) {
+            this.ahead.add(this.slice(0, this.buffer.length()));
+        } else if (this.limit != 0 || this.pos < this.buffer.length()) {
+            this.piece(this.pos, this.buffer.length());
+        }
+        this.done = true;
+    }
+
+    /**
+     * Return a piece, holding back empty ones if trailing are dropped.
+     * @param start Start of the piece
+     * @param end End of the piece
+     */
+    private void piece(final int start, final int end) {
+        if (this.limit == 0 && start == end) {
+            this.empties += 1;
+        } else {
+            while (this.empties > 0) {
+                this.ahead.add("");
+                this.empties -= 1;
+            }
+            this.ahead.add(this.slice(start, end));
+        }
+    }
+
+    /**
+     * A part of the buffer: a view over the chunk, or a copy of
+     * the builder, which will change.
+     * @param start Start of the part
+     * @param end End of the part
+     * @return The part
+     */
+    private CharSequence slice(final int start, final int end) {
+        final CharSequence slice;
+        if (this.buffer instanceof StringBuilder) {
+            slice = this.buffer.subSequence(start, end);
+        } else {
+            slice = CharBuffer.wrap(this.buffer, start, end);
+        }
+        return slice;
+    }
+
+    /**
+     * Find a string in the buffer, starting at {@link #from}.
+     * @param str The string
+     * @return Position of the string, or -1
+     */
+    private int indexOf(final String str) {
+        final int idx;
+        if (this.buffer instanceof StringBuilder) {
+            idx = ((StringBuilder) this.buffer).indexOf(str, this.from);
+        } else {
+            idx = this.buffer.toString().indexOf(str, this.from);
+        }
+        return idx;
+    }
+
+    /**
+     * Read the next chunk, dropping what is already returned.
+     */
+    private void more() {
+        if (this.chunks.hasNext()) {
+            final String chunk = new UncheckedText(this.chunks.next())
+                .asString();
+            if (this.pos == this.buffer.length()) {
+                this.buffer = chunk;
+            } else if (this.buffer instanceof StringBuilder) {
+                ((StringBuilder) this.buffer).delete(0, this.pos)
+                    .append(chunk);
+            } else {
+                this.buffer = new StringBuilder(
+                    this.buffer.length() - this.pos + chunk.length()
+                ).append(this.buffer, this.pos, this.buffer.length())
+                    .append(chunk);
+            }
+            this.from -= this.pos;
+            this.pos = 0;
+        } else {
+            this.last = true;
+        }
+    }
+
+    /**
+     * The delimiter as a literal, if it has no regex meta characters.
+     * @param regex The regular expression
+     * @return The literal, or an empty string
+     */
+    private static String literalOf(final String regex) {
+        final String literal;
+        if (regex.length() == 2 && regex.charAt(0) == '\\'
+            && !Character.isLetterOrDigit(regex.charAt(1))) {
+            literal = regex.substring(1);
+        } else if (new Unchecked<>(new IsLiteral(regex)).value()) {
+            literal = regex;
+        } else {
+            literal = "";
+        }
+        return literal;
+    }
+}
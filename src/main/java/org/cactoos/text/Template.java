@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.Text;
+import org.cactoos.scalar.Solid;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Text template with {@code {}} placeholders, parsed once.
+ *
+ * <p>Every {@code {}} is replaced with the next argument, as
+ * {@link String#valueOf(Object)} prints it; {@code \{}} is printed as
+ * {@code {}}. Placeholders without arguments are printed as they are,
+ * extra arguments are ignored. The pattern is split into segments on
+ * first use, and every rendering only appends them and the arguments
+ * to a builder, without {@link java.util.Formatter}. Create a template
+ * once and reuse it:</p>
+ *
+ * <pre>{@code
+ * final Template tpl = new Template("Index {} is out of {}");
+ * final String msg = tpl.format(idx, size);
+ * final Text txt = new FormattedText(tpl, idx, size);
+ * }</pre>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @see FormattedText
+ * @since 0.53
+ */
+public final class Template {
+
+    /**
+     * Expected length of a printed argument.
+     */
+    private static final int ARG = 16;
+
+    /**
+     * Literal segments between the placeholders.
+     */
+    private final Unchecked<String[]> segments;
+
+    /**
+     * Ctor.
+     * @param pattern The pattern
+     */
+    public Template(final CharSequence pattern) {
+        this(new TextOfScalar(pattern::toString));
+    }
+
+    /**
+     * Ctor.
+     * @param pattern The pattern
+     */
+    public Template(final Text pattern) {
+        this.segments = new Unchecked<>(
+            new Solid<>(
+                () -> {
+                    final String str = pattern.asString();
+                    final List<String> parts = new ArrayList<>(0);
+                    final StringBuilder part = new StringBuilder(0);
+                    int pos = 0;
+                    int idx = str.indexOf("{}");
+                    while (idx >= 0) {
+                        if (idx > 0 && str.charAt(idx - 1) == '\\') {
+                            part.append(str, pos, idx - 1).append("{}");
+                        } else {
+                            parts.add(part.append(str, pos, idx).toString());
+                            part.setLength(0);
+                        }
+                        pos = idx + 2;
+                        idx = str.indexOf("{}", pos);
+                    }
+                    parts.add(part.append(str, pos, str.length()).toString());
+                    return parts.toArray(new String[0]);
+                }
+            )
+        );
+    }
+
+    /**
+     * Render the template with the arguments.
+     * @param args The arguments
+     * @return The text
+     */
+    public String format(final Object... args) {
+        final String[] parts = this.segments.value();
+        int size = 0;
+        for (final String part : parts) {
+            size += part.length();
+        }
+        return this.render(
+            new StringBuilder(size + args.length * Template.ARG), args
+        ).toString();
+    }
+
+    /**
+     * Render the template with the arguments to the builder, which can
+     * be reused between renderings.
+     * @param out The builder to append to
+     * @param args The arguments
+     * @return The same builder
+     */
+    public StringBuilder render(final StringBuilder out, final Object... args) {
+        final String[] parts = this.segments.value();
+        out.append(parts[0]);
+        for (int idx = 1; idx < parts.length; idx += 1) {
+            if (idx > args.length) {
+                out.append("{}");
+            } else {
+                out.append(args[idx - 1]);
+            }
+            out.append(parts[idx]);
+        }
+        return out;
+    }
+}
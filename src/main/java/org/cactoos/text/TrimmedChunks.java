@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import org.cactoos.Text;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterator.Filtered;
+import org.cactoos.iterator.Joined;
+import org.cactoos.iterator.Mapped;
+
+/**
+ * Chunks of a text without control characters (char &lt;= 32)
+ * from both ends of the whole text, streaming version of {@link Trimmed}.
+ *
+ * <p>Only a run of control characters between two chunks is kept
+ * in memory, until it's clear whether the text ends there.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.53
+ */
+public final class TrimmedChunks extends IterableEnvelope<Text> {
+
+    /**
+     * Ctor.
+     * @param chunks The chunks of the text
+     * @checkstyle AnonInnerLengthCheck (60 lines)
+     */
+    public TrimmedChunks(final Iterable<? extends Text> chunks) {
+        super(
+            new IterableOf<>(
+                () -> {
+                    final Text end = new TextOfString("");
+                    final boolean[] started = new boolean[1];
+                    final StringBuilder pending = new StringBuilder(0);
+                    return new Filtered<>(
+                        txt -> !txt.asString().isEmpty(),
+                        new Mapped<>(
+                            chunk -> {
+                                Text out = end;
+                                if (chunk != end) {
+                                    final String str = chunk.asString();
+                                    int start = 0;
+                                    if (!started[0]) {
+                                        while (start < str.length()
+                                            && str.charAt(start) <= ' ') {
+                                            start += 1;
+                                        }
+                                        started[0] = start < str.length();
+                                    }
+                                    int stop = str.length();
+                                    while (stop > start
+                                        && str.charAt(stop - 1) <= ' ') {
+                                        stop -= 1;
+                                    }
+                                    if (stop > start) {
+                                        out = new TextOfString(
+                                            pending.append(str, start, stop)
+                                                .toString()
+                                        );
+                                        pending.setLength(0);
+                                    }
+                                    if (started[0]) {
+                                        pending.append(
+                                            str, stop, str.length()
+                                        );
+                                    }
+                                }
+                                return out;
+                            },
+                            new Joined<Text>(chunks.iterator(), end)
+                        )
+                    );
+                }
+            )
+        );
+    }
+}
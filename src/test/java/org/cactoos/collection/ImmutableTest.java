@@ -23,6 +23,7 @@
  */
 package org.cactoos.collection;
 
+import java.util.Spliterator;
 import org.cactoos.list.ListOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
@@ -254,4 +255,15 @@ public class ImmutableTest {
             )
         ).affirm();
     }
+
+    @Test
+    void returnsImmutableSpliterator() {
+        new Assertion<>(
+            "spliterator() must be immutable",
+            new Immutable<>(
+                new ListOf<>(1, 2, 3)
+            ).spliterator().hasCharacteristics(Spliterator.IMMUTABLE),
+            new IsEqual<>(true)
+        ).affirm();
+    }
 }
@@ -315,6 +315,29 @@ final class ThreadsTest {
         ).affirm();
     }
 
+    /**
+     * Execute the tasks concurrently using {@link Threads} when
+     *  each task gets its own thread.
+     */
+    @RepeatedTest(ThreadsTest.REPETITIONS)
+    void containsValuesWithThreadPerTask() {
+        new Assertion<>(
+            "Must contain results from the callables when using thread per task",
+            new Threads<String>(
+                Duration.ofSeconds(1),
+                () -> {
+                    this.sleep();
+                    return "txt 1";
+                },
+                () -> {
+                    this.sleep();
+                    return "txt 2";
+                }
+            ),
+            new HasValues<>("txt 1", "txt 2")
+        ).affirm();
+    }
+
     /**
      * Sleep.
      */
@@ -27,6 +27,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import org.cactoos.scalar.ThreadPerTask;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -159,4 +160,19 @@ final class AsyncTest {
             )
         ).affirm();
     }
+
+    @Test
+    void runsInBackgroundWithThreadPerTask() {
+        new Assertion<>(
+            "Must run in the background with a thread per task",
+            new Async<>(
+                (String input) -> input.trim(),
+                new ThreadPerTask()
+            ),
+            new IsApplicable<>(
+                " Hello ",
+                new Satisfies<>(future -> "Hello".equals(future.get()))
+            )
+        ).affirm();
+    }
 }
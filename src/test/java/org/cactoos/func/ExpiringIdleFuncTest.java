@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ExpiringIdleFunc}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ExpiringIdleFuncTest {
+
+    @Test
+    void cachesWhileUsed() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<String, Integer> func = new ExpiringIdleFunc<>(
+            input -> calls.incrementAndGet(),
+            Duration.ofHours(1L)
+        );
+        func.apply("x");
+        func.apply("x");
+        new Assertion<>(
+            "Must return cached value",
+            func.apply("x"),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void forgetsIdleValues() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<String, Integer> func = new ExpiringIdleFunc<>(
+            input -> calls.incrementAndGet(),
+            Duration.ZERO
+        );
+        func.apply("y");
+        new Assertion<>(
+            "Must calculate idle value again",
+            func.apply("y"),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void callsItselfForOtherKeys() throws Exception {
+        final AtomicReference<Func<Integer, Long>> fib =
+            new AtomicReference<>();
+        fib.set(
+            new ExpiringIdleFunc<>(
+                num -> {
+                    final long result;
+                    if (num < 2) {
+                        result = (long) num;
+                    } else {
+                        result = fib.get().apply(num - 1)
+                            + fib.get().apply(num - 2);
+                    }
+                    return result;
+                },
+                Duration.ofHours(1L)
+            )
+        );
+        new Assertion<>(
+            "Must let the func use the cache for other keys",
+            fib.get().apply(90),
+            new IsEqual<>(2_880_067_194_370_816_120L)
+        ).affirm();
+    }
+}
@@ -23,13 +23,17 @@
  */
 package org.cactoos.func;
 
+import java.io.IOException;
 import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.cactoos.Func;
 import org.cactoos.list.ListOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link SolidFunc}.
@@ -69,4 +73,88 @@ final class SolidFuncTest {
         ).affirm();
     }
 
+    @Test
+    void calculatesOnceInThreads() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> solid = new SolidFunc<>(
+            input -> {
+                Thread.sleep(10L);
+                return calls.incrementAndGet();
+            }
+        );
+        new Assertion<>(
+            "Must calculate in multiple threads",
+            func -> func.apply(1) > 0,
+            new RunsInThreads<>(solid)
+        ).affirm();
+        new Assertion<>(
+            "Must calculate only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotCacheFailures() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            input -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IOException("first call fails");
+                }
+                return input;
+            }
+        );
+        new Assertion<>(
+            "Must rethrow the original failure",
+            () -> func.apply(1),
+            new Throws<>("first call fails", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must calculate again after the failure",
+            func.apply(1),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void keepsLimit() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            input -> calls.incrementAndGet(), 0
+        );
+        func.apply(1);
+        func.apply(1);
+        new Assertion<>(
+            "Must not cache with zero limit",
+            calls.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsRecursiveCallForSameKey() {
+        final AtomicReference<Func<Integer, Integer>> self =
+            new AtomicReference<>();
+        self.set(new SolidFunc<>(input -> self.get().apply(input)));
+        new Assertion<>(
+            "Must reject a recursive call for the same key",
+            () -> self.get().apply(1),
+            new Throws<>(IllegalStateException.class)
+        ).affirm();
+    }
+
+    @Test
+    void cachesNullInput() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<String, Integer> func = new SolidFunc<>(
+            input -> calls.incrementAndGet()
+        );
+        func.apply(null);
+        new Assertion<>(
+            "Must cache the result of null input",
+            func.apply(null),
+            new IsEqual<>(1)
+        ).affirm();
+    }
 }
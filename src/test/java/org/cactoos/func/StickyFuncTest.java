@@ -24,7 +24,9 @@
 package org.cactoos.func;
 
 import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Func;
+import org.cactoos.map.Lfu;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.junit.jupiter.api.Test;
@@ -88,4 +90,37 @@ final class StickyFuncTest {
         ).affirm();
     }
 
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> calls.incrementAndGet(), 2
+        );
+        func.apply(1);
+        func.apply(2);
+        func.apply(1);
+        func.apply(3);
+        func.apply(1);
+        new Assertion<>(
+            "Must keep recently used result",
+            calls.get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void cachesInGivenMap() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> calls.incrementAndGet(), new Lfu<>(10)
+        );
+        func.apply(1);
+        func.apply(1);
+        new Assertion<>(
+            "Must cache result in the map",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
 }
@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.ByteBuffer;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ByteBufferInputStream}.
+ *
+ * @since 0.53
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ByteBufferInputStreamTest {
+
+    @Test
+    void readsBytes() {
+        final ByteBufferInputStream stream = new ByteBufferInputStream(
+            ByteBuffer.wrap(new byte[]{1, 2, 3})
+        );
+        final byte[] buf = new byte[5];
+        new Assertion<>(
+            "must read all remaining bytes",
+            stream.read(buf, 0, buf.length),
+            new IsEqual<>(3)
+        ).affirm();
+        new Assertion<>(
+            "must report end of stream",
+            stream.read(),
+            new IsEqual<>(-1)
+        ).affirm();
+    }
+
+    @Test
+    void readsUnsignedByte() {
+        new Assertion<>(
+            "must read a byte as unsigned",
+            new ByteBufferInputStream(
+                ByteBuffer.wrap(new byte[]{(byte) -1})
+            ).read(),
+            new IsEqual<>(255)
+        ).affirm();
+    }
+
+    @Test
+    void showsRemainingBytesInBuffer() {
+        final ByteBufferInputStream stream = new ByteBufferInputStream(
+            ByteBuffer.wrap(new byte[]{1, 2, 3, 4})
+        );
+        stream.skip(1L);
+        new Assertion<>(
+            "must show only remaining bytes",
+            stream.buffer(),
+            new IsEqual<>(ByteBuffer.wrap(new byte[]{2, 3, 4}))
+        ).affirm();
+        new Assertion<>(
+            "must not move the stream",
+            stream.available(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+}
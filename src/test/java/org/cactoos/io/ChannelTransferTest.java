@@ -0,0 +1,222 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link ChannelTransfer}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+final class ChannelTransferTest {
+
+    @Test
+    void copiesRestOfFile(@TempDir final Path dir) throws Exception {
+        final Path input = dir.resolve("input.txt");
+        Files.write(
+            input, "Hello, rest of the file".getBytes(StandardCharsets.UTF_8)
+        );
+        final Path output = dir.resolve("output.txt");
+        try (
+            FileChannel src = FileChannel.open(input);
+            FileChannel tgt = FileChannel.open(
+                output, StandardOpenOption.CREATE, StandardOpenOption.WRITE
+            )
+        ) {
+            new Assertion<>(
+                "Must return the number of bytes copied",
+                new ChannelTransfer(src, 7L, tgt),
+                new HasValue<>(16L)
+            ).affirm();
+            new Assertion<>(
+                "Must not move the source",
+                src.position(),
+                new IsEqual<>(0L)
+            ).affirm();
+        }
+        new Assertion<>(
+            "Must copy the file from the position",
+            new InputOf(output),
+            new HasContent("rest of the file")
+        ).affirm();
+    }
+
+    @Test
+    void copiesFileLongerThanItsSize(@TempDir final Path dir)
+        throws Exception {
+        final String message = "Hello, file that grows after its size";
+        final Path input = dir.resolve("long.txt");
+        Files.write(input, message.getBytes(StandardCharsets.UTF_8));
+        final Path output = dir.resolve("copy.txt");
+        try (
+            FileChannel src = new ShortChannel(FileChannel.open(input));
+            FileChannel tgt = FileChannel.open(
+                output, StandardOpenOption.CREATE, StandardOpenOption.WRITE
+            )
+        ) {
+            new ChannelTransfer(src, 0L, tgt).value();
+        }
+        new Assertion<>(
+            "Must copy the file until its end, not until its size",
+            new InputOf(output),
+            new HasContent(message)
+        ).affirm();
+    }
+
+    /**
+     * File channel that reports half of its real size, like a file that
+     * grows after its size was taken.
+     * @since 0.53
+     * @checkstyle ParameterNumberCheck (200 lines)
+     */
+    @SuppressWarnings("PMD.TooManyMethods")
+    private static final class ShortChannel extends FileChannel {
+        /**
+         * The real channel.
+         */
+        private final FileChannel origin;
+
+        ShortChannel(final FileChannel channel) {
+            super();
+            this.origin = channel;
+        }
+
+        @Override
+        public int read(final ByteBuffer dst) throws IOException {
+            return this.origin.read(dst);
+        }
+
+        @Override
+        public long read(final ByteBuffer[] dsts, final int offset,
+            final int length) throws IOException {
+            return this.origin.read(dsts, offset, length);
+        }
+
+        @Override
+        public int write(final ByteBuffer src) throws IOException {
+            return this.origin.write(src);
+        }
+
+        @Override
+        public long write(final ByteBuffer[] srcs, final int offset,
+            final int length) throws IOException {
+            return this.origin.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return this.origin.position();
+        }
+
+        @Override
+        public FileChannel position(final long pos) throws IOException {
+            this.origin.position(pos);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return this.origin.size() / 2L;
+        }
+
+        @Override
+        public FileChannel truncate(final long size) throws IOException {
+            this.origin.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(final boolean meta) throws IOException {
+            this.origin.force(meta);
+        }
+
+        @Override
+        public long transferTo(final long position, final long count,
+            final WritableByteChannel target) throws IOException {
+            return this.origin.transferTo(
+                position, Math.min(count, this.size() - position), target
+            );
+        }
+
+        @Override
+        public long transferFrom(final ReadableByteChannel src,
+            final long position, final long count) throws IOException {
+            return this.origin.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(final ByteBuffer dst, final long position)
+            throws IOException {
+            return this.origin.read(dst, position);
+        }
+
+        @Override
+        public int write(final ByteBuffer src, final long position)
+            throws IOException {
+            return this.origin.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(final MapMode mode, final long position,
+            final long size) throws IOException {
+            return this.origin.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(final long position, final long size,
+            final boolean shared) throws IOException {
+            return this.origin.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(final long position, final long size,
+            final boolean shared) throws IOException {
+            return this.origin.tryLock(position, size, shared);
+        }
+
+        @Override
+        public void implCloseChannel() throws IOException {
+            this.origin.close();
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import org.hamcrest.core.IsEqual;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -73,4 +74,39 @@ public final class DirectoryTest {
             new HasSize(4)
         ).affirm();
     }
+
+    @Test
+    public void listsFilesMatchingGlob() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("src/main").toFile().mkdirs();
+        Files.write(dir.resolve("src/main/App.java"), "".getBytes());
+        Files.write(dir.resolve("src/readme.txt"), "".getBytes());
+        new Assertion<>(
+            "must list files matching a glob",
+            new Directory(dir, "**/*.java"),
+            new HasSize(1)
+        ).affirm();
+    }
+
+    @Test
+    public void listsFilesUpToDepth() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        dir.resolve("a/b/c").toFile().mkdirs();
+        new Assertion<>(
+            "must list files up to a depth",
+            new Directory(dir, 2),
+            // @checkstyle MagicNumber (1 line)
+            new HasSize(3)
+        ).affirm();
+    }
+
+    @Test
+    public void returnsFirstPathLazily() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        new Assertion<>(
+            "must return the directory itself first",
+            new Directory(dir).iterator().next(),
+            new IsEqual<>(dir)
+        ).affirm();
+    }
 }
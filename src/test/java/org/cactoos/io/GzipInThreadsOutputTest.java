@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.zip.Deflater;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.IsText;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link GzipInThreadsOutput}.
+ * @since 0.53
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class GzipInThreadsOutputTest {
+
+    @Test
+    void writesStandardGzip() throws Exception {
+        final byte[] content = new byte[1 << 20];
+        final Random random = new Random();
+        for (int idx = 0; idx < content.length; ++idx) {
+            content[idx] = (byte) ('a' + random.nextInt(4));
+        }
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (OutputStream output = new GzipInThreadsOutput(
+            new OutputTo(baos), 4, 64 << 10
+        ).stream()
+        ) {
+            output.write(content);
+        }
+        new Assertion<>(
+            "Must write gzip that can be read by GzipInput",
+            new BytesOf(
+                new GzipInput(new InputOf(baos.toByteArray()))
+            ).asBytes(),
+            new IsEqual<>(content)
+        ).affirm();
+    }
+
+    @Test
+    void writesEmptyGzip() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new GzipInThreadsOutput(new OutputTo(baos)).stream().close();
+        new Assertion<>(
+            "Must write empty gzip",
+            new BytesOf(
+                new GzipInput(new InputOf(baos.toByteArray()))
+            ).asBytes(),
+            new IsEqual<>(new byte[0])
+        ).affirm();
+    }
+
+    @Test
+    void writesAfterFlush() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (OutputStream output = new GzipInThreadsOutput(
+            new OutputTo(baos), 2, 1024, Deflater.BEST_SPEED
+        ).stream()
+        ) {
+            output.write("Hello, ".getBytes());
+            output.flush();
+            output.write("world!".getBytes());
+        }
+        new Assertion<>(
+            "Must write gzip after flush",
+            new TextOf(
+                new GzipInput(new InputOf(baos.toByteArray()))
+            ),
+            new IsText("Hello, world!")
+        ).affirm();
+    }
+
+    @Test
+    void failsToWriteToClosedStream() throws Exception {
+        final OutputStream output = new GzipInThreadsOutput(
+            new OutputTo(new ByteArrayOutputStream())
+        ).stream();
+        output.close();
+        new Assertion<>(
+            "Must fail to write to closed stream",
+            () -> {
+                output.write(1);
+                return output;
+            },
+            new Throws<>(IOException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link IsRegularFile}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class IsRegularFileTest {
+
+    @Test
+    void trustsSizeOfRegularFile(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("file.txt");
+        Files.write(file, new byte[] {1, 2, 3});
+        try (InputStream stream = new InputOf(file).stream()) {
+            new Assertion<>(
+                "Must trust the size of a regular file",
+                new IsRegularFile(stream),
+                new HasValue<>(true)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void doesNotTrustEmptyFile(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("empty.txt");
+        Files.write(file, new byte[0]);
+        try (InputStream stream = new InputOf(file).stream()) {
+            new Assertion<>(
+                "Must not trust the zero size, like the one of /proc files",
+                new IsRegularFile(stream),
+                new HasValue<>(false)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void doesNotTrustOtherStreams() {
+        new Assertion<>(
+            "Must not trust a stream that is not a file",
+            new IsRegularFile(new ByteArrayInputStream(new byte[] {1})),
+            new HasValue<>(false)
+        ).affirm();
+    }
+}
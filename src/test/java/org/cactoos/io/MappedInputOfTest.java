@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.bytes.Md5DigestOf;
+import org.cactoos.scalar.LengthOf;
+import org.cactoos.text.HexOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.IsText;
+
+/**
+ * Test case for {@link MappedInputOf}.
+ *
+ * @since 0.53
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+final class MappedInputOfTest {
+
+    @Test
+    void readsFileContent(final @TempDir Path folder) throws Exception {
+        final Path temp = folder.resolve("mapped.txt");
+        final String content = "Hello, товарищ!";
+        Files.write(temp, content.getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "must read mapped file content",
+            new MappedInputOf(temp),
+            new HasContent(content)
+        ).affirm();
+    }
+
+    @Test
+    void readsEmptyFile(final @TempDir Path folder) throws Exception {
+        final Path temp = folder.resolve("empty.txt");
+        Files.write(temp, new byte[0]);
+        new Assertion<>(
+            "must read empty mapped file",
+            new BytesOf(new MappedInputOf(temp.toFile())).asBytes(),
+            new IsEqual<>(new byte[0])
+        ).affirm();
+    }
+
+    @Test
+    void calculatesLength(final @TempDir Path folder) throws Exception {
+        final Path temp = folder.resolve("length.txt");
+        Files.write(temp, new byte[]{1, 2, 3, 4, 5});
+        new Assertion<>(
+            "must calculate length of mapped file",
+            new LengthOf(new MappedInputOf(temp)),
+            new HasValue<>(5L)
+        ).affirm();
+    }
+
+    @Test
+    void calculatesDigest(final @TempDir Path folder) throws Exception {
+        final Path temp = folder.resolve("digest.txt");
+        Files.write(temp, "Hello".getBytes(StandardCharsets.UTF_8));
+        new Assertion<>(
+            "must calculate digest of mapped file",
+            new HexOf(new Md5DigestOf(new MappedInputOf(temp))),
+            new IsText(
+                new HexOf(new Md5DigestOf(new InputOf(temp))).asString()
+            )
+        ).affirm();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.io.IOException;
+import org.cactoos.bytes.BytesOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasContent;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link PipedInput}.
+ *
+ * @since 0.53
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class PipedInputTest {
+
+    @Test
+    void readsWrittenData() {
+        new Assertion<>(
+            "Must read the data written by the procedure",
+            new PipedInput(out -> out.write("Hello, pipe!".getBytes())),
+            new HasContent("Hello, pipe!")
+        ).affirm();
+    }
+
+    @Test
+    void readsDataBiggerThanPipe() throws Exception {
+        final byte[] content = new byte[10_000];
+        content[9_999] = 1;
+        new Assertion<>(
+            "Must read more data than fits into the pipe",
+            new BytesOf(
+                new PipedInput(out -> out.write(content), 16)
+            ).asBytes(),
+            new IsEqual<>(content)
+        ).affirm();
+    }
+
+    @Test
+    void failsIfProcedureFails() {
+        new Assertion<>(
+            "Must fail if the procedure fails",
+            () -> new BytesOf(
+                new PipedInput(
+                    out -> {
+                        out.write(1);
+                        throw new IllegalStateException("broken");
+                    }
+                )
+            ).asBytes(),
+            new Throws<>(IOException.class)
+        ).affirm();
+    }
+}
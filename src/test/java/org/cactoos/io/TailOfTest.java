@@ -23,20 +23,31 @@
  */
 package org.cactoos.io;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Random;
 import org.cactoos.bytes.BytesOf;
 import org.hamcrest.core.IsEqual;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.llorllale.cactoos.matchers.Assertion;
 
 /**
  * Tests for {@link TailOf}.
  * @since 0.30
  * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
  */
 public final class TailOfTest {
 
+    /**
+     * Temporary files and folders generator.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void tailsOnLongStream() throws Exception {
         final int size = 4;
@@ -121,6 +132,47 @@ public final class TailOfTest {
         ).affirm();
     }
 
+    @Test
+    public void tailsOnFile() throws Exception {
+        final int size = 100_000;
+        final byte[] bytes = this.generate(size);
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, bytes);
+        new Assertion<>(
+            "Can't tail file",
+            new BytesOf(
+                new TailOf(new InputOf(file), 3)
+            ).asBytes(),
+            new IsEqual<>(Arrays.copyOfRange(bytes, size - 3, size))
+        ).affirm();
+    }
+
+    @Test
+    public void tailsOnShorterFile() throws Exception {
+        final int size = 4;
+        final byte[] bytes = this.generate(size);
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, bytes);
+        new Assertion<>(
+            "Can't tail shorter file",
+            new BytesOf(
+                new TailOf(new InputOf(file.toFile()), size + 1)
+            ).asBytes(),
+            new IsEqual<>(bytes)
+        ).affirm();
+    }
+
+    @Test
+    public void tailsOnEmptyFile() throws Exception {
+        new Assertion<>(
+            "Can't tail empty file",
+            new BytesOf(
+                new TailOf(new InputOf(this.folder.newFile()), 2)
+            ).asBytes(),
+            new IsEqual<>(new byte[0])
+        ).affirm();
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void failsIfBufferSizeSmallerThanTailSize() throws Exception {
         final int size = 4;
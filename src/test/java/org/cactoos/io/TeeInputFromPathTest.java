@@ -24,22 +24,25 @@
 package org.cactoos.io;
 
 import java.io.File;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import org.cactoos.scalar.LengthOf;
+import org.hamcrest.core.IsEqual;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasContent;
+import org.llorllale.cactoos.matchers.HasValue;
 
 /**
  * Test case for {@link TeeInput}. Cases for ctors which use {@link Path} as
  * an input.
  * @since 1.0
- * @checkstyle JavadocMethodCheck (120 lines)
- * @checkstyle ClassDataAbstractionCouplingCheck (120 lines)
+ * @checkstyle JavadocMethodCheck (250 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (250 lines)
  */
 public final class TeeInputFromPathTest {
 
@@ -108,4 +111,85 @@ public final class TeeInputFromPathTest {
             new HasContent(message)
         ).affirm();
     }
+
+    @Test
+    public void copiesLargeFileAndCountsItsLength() throws Exception {
+        final byte[] bytes = new byte[1 << 20];
+        for (int idx = 0; idx < bytes.length; ++idx) {
+            bytes[idx] = (byte) idx;
+        }
+        final File input = this.folder.newFile();
+        Files.write(input.toPath(), bytes);
+        final File output = this.folder.newFile();
+        new Assertion<>(
+            "Must count length of copied file",
+            new LengthOf(
+                new TeeInput(input.toPath(), output.toPath())
+            ),
+            new HasValue<>((long) bytes.length)
+        ).affirm();
+        new Assertion<>(
+            "Must copy large file",
+            Files.readAllBytes(output.toPath()),
+            new IsEqual<>(bytes)
+        ).affirm();
+    }
+
+    @Test
+    public void readsInputAfterCopying() throws Exception {
+        final String message = "Hello, товарищ stream #1";
+        final File input = this.folder.newFile();
+        Files.write(
+            input.toPath(),
+            message.getBytes(StandardCharsets.UTF_8)
+        );
+        new Assertion<>(
+            "Must read input content after copying",
+            new TeeInput(input.toPath(), this.folder.newFile().toPath()),
+            new HasContent(message)
+        ).affirm();
+    }
+
+    @Test
+    public void copiesFromMappedInputToPath() throws Exception {
+        final String message = "Hello, товарищ mapped #1";
+        final File input = this.folder.newFile();
+        Files.write(
+            input.toPath(),
+            message.getBytes(StandardCharsets.UTF_8)
+        );
+        final File output = this.folder.newFile();
+        new LengthOf(
+            new TeeInput(new MappedInputOf(input), new OutputTo(output))
+        ).value();
+        new Assertion<>(
+            "Must copy from mapped input to output path",
+            new InputOf(output),
+            new HasContent(message)
+        ).affirm();
+    }
+
+    @Test
+    public void copiesWholeFileWhenClosed() throws Exception {
+        final String message = "Hello, товарищ closed #1";
+        final File input = this.folder.newFile();
+        Files.write(
+            input.toPath(),
+            message.getBytes(StandardCharsets.UTF_8)
+        );
+        final File output = this.folder.newFile();
+        try (InputStream stream = new TeeInput(input, output).stream()) {
+            stream.read();
+            new Assertion<>(
+                "Must not copy before the stream is closed",
+                output.length(),
+                new IsEqual<>(0L)
+            ).affirm();
+        }
+        new Assertion<>(
+            "Must copy the whole file when the stream is closed",
+            new InputOf(output),
+            new HasContent(message)
+        ).affirm();
+    }
 }
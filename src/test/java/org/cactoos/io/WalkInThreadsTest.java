@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.scalar.LengthOf;
+import org.cactoos.set.SetOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasSize;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link WalkInThreads}.
+ *
+ * @since 0.53
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class WalkInThreadsTest {
+
+    @Test
+    void walksAllPaths(@TempDir final Path dir) throws Exception {
+        Files.createDirectories(dir.resolve("a/b"));
+        Files.createDirectories(dir.resolve("c"));
+        Files.write(dir.resolve("a/b/file.txt"), new byte[0]);
+        new Assertion<>(
+            "Must walk all the paths of a directory",
+            new SetOf<>(
+                new Mapped<>(entry -> entry.getKey(), new WalkInThreads(dir))
+            ),
+            new IsEqual<>(new SetOf<>(new Directory(dir)))
+        ).affirm();
+    }
+
+    @Test
+    void walksWideTree(@TempDir final Path dir) throws Exception {
+        for (int idx = 0; idx < 100; ++idx) {
+            Files.createDirectories(dir.resolve(String.format("d%d", idx)));
+            Files.write(
+                dir.resolve(String.format("d%d/f", idx)), new byte[0]
+            );
+        }
+        new Assertion<>(
+            "Must walk a wide tree through a small queue",
+            new WalkInThreads(
+                dir, Integer.MAX_VALUE,
+                entry -> true,
+                entry -> entry.getValue().isRegularFile(),
+                4, 2
+            ),
+            new HasSize(100)
+        ).affirm();
+    }
+
+    @Test
+    void failsForAbsentDirectory(@TempDir final Path dir) {
+        new Assertion<>(
+            "Must fail for absent directory",
+            () -> new WalkInThreads(dir.resolve("absent")).iterator()
+                .hasNext(),
+            new Throws<>(IllegalStateException.class)
+        ).affirm();
+    }
+
+    @Test
+    void abandonsWalkNobodyReads(@TempDir final Path dir) throws Exception {
+        for (int idx = 0; idx < 10; ++idx) {
+            Files.write(dir.resolve(String.format("f%d", idx)), new byte[0]);
+        }
+        final Iterator<Map.Entry<Path, BasicFileAttributes>> walk =
+            new WalkInThreadsIterator(
+                dir, Integer.MAX_VALUE, entry -> true, entry -> true,
+                2, 1, Duration.ofMillis(100L)
+            );
+        walk.next();
+        Thread.sleep(1_000L);
+        new Assertion<>(
+            "Must stop the walk that nobody reads",
+            () -> new LengthOf(new IterableOf<>(walk)).value(),
+            new Throws<>(IllegalStateException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasSize;
+
+/**
+ * Test case for {@link Walk}.
+ *
+ * @since 0.53
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class WalkTest {
+
+    @Test
+    void walksInOrderOfFilesWalk(@TempDir final Path dir) throws Exception {
+        Files.createDirectories(dir.resolve("a/b"));
+        Files.write(dir.resolve("a/b/file.txt"), new byte[0]);
+        new Assertion<>(
+            "Must walk a directory before its content",
+            new Mapped<>(entry -> entry.getKey(), new Walk(dir)),
+            new IsEqual<>(
+                new IterableOf<>(
+                    dir, dir.resolve("a"), dir.resolve("a/b"),
+                    dir.resolve("a/b/file.txt")
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void skipsSubtrees(@TempDir final Path dir) throws Exception {
+        Files.createDirectories(dir.resolve(".git/objects"));
+        Files.createDirectories(dir.resolve("src"));
+        Files.write(dir.resolve(".git/objects/x"), new byte[0]);
+        Files.write(dir.resolve("src/y"), new byte[0]);
+        new Assertion<>(
+            "Must skip subtrees and return only regular files",
+            new Walk(
+                dir, Integer.MAX_VALUE,
+                entry -> !entry.getKey().endsWith(".git"),
+                entry -> entry.getValue().isRegularFile()
+            ),
+            new HasSize(1)
+        ).affirm();
+    }
+
+    @Test
+    void returnsAttributes(@TempDir final Path dir) throws Exception {
+        Files.write(dir.resolve("data"), new byte[42]);
+        new Assertion<>(
+            "Must return attributes of files",
+            new Walk(
+                dir, 1, entry -> entry.getValue().isRegularFile()
+            ).iterator().next().getValue().size(),
+            new IsEqual<>(42L)
+        ).affirm();
+    }
+}
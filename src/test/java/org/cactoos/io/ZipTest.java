@@ -26,8 +26,10 @@ package org.cactoos.io;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
+import org.cactoos.bytes.BytesOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.Rule;
 import org.junit.Test;
@@ -39,6 +41,7 @@ import org.llorllale.cactoos.matchers.Assertion;
  *
  * @since 0.29
  * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
  */
 public final class ZipTest {
     /**
@@ -71,4 +74,50 @@ public final class ZipTest {
             ).affirm();
         }
     }
+
+    @Test
+    public void zipsFileContent() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        final byte[] content = new byte[100_000];
+        for (int idx = 0; idx < content.length; ++idx) {
+            content[idx] = (byte) (idx % 7);
+        }
+        Files.write(dir.resolve("data.bin"), content);
+        try (ZipInputStream input = new ZipInputStream(
+            new Zip(new Directory(dir)).stream()
+        )) {
+            ZipEntry entry = input.getNextEntry();
+            while (entry.isDirectory() || !entry.getName().endsWith("bin")) {
+                entry = input.getNextEntry();
+            }
+            new Assertion<>(
+                "Can't zip content of a file",
+                new BytesOf(new InputOf(input)).asBytes(),
+                new IsEqual<>(content)
+            ).affirm();
+        }
+    }
+
+    @Test
+    public void storesFilesWithoutCompression() throws Exception {
+        final Path dir = this.folder.newFolder().toPath();
+        Files.write(dir.resolve("photo.jpg"), "jpeg".getBytes());
+        try (ZipInputStream input = new ZipInputStream(
+            new Zip(
+                new Directory(dir),
+                Deflater.BEST_SPEED,
+                path -> path.toString().endsWith(".jpg")
+            ).stream()
+        )) {
+            ZipEntry entry = input.getNextEntry();
+            while (!entry.getName().endsWith("jpg")) {
+                entry = input.getNextEntry();
+            }
+            new Assertion<>(
+                "Can't store a file without compression",
+                entry.getMethod(),
+                new IsEqual<>(ZipEntry.STORED)
+            ).affirm();
+        }
+    }
 }
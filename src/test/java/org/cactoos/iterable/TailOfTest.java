@@ -23,6 +23,7 @@
  */
 package org.cactoos.iterable;
 
+import org.cactoos.list.ListOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -51,4 +52,46 @@ final class TailOfTest {
             )
         );
     }
+
+    @Test
+    void tailOfList() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't get tail portion of list",
+            new TailOf<>(
+                2,
+                new ListOf<>("one", "two", "three", "four")
+            ),
+            Matchers.contains(
+                "three",
+                "four"
+            )
+        );
+    }
+
+    @Test
+    void tailOfShortList() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't get tail portion of short list",
+            new TailOf<>(
+                5,
+                new ListOf<>("one", "two")
+            ),
+            Matchers.contains(
+                "one",
+                "two"
+            )
+        );
+    }
+
+    @Test
+    void emptyTailOfList() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't get empty tail portion of list",
+            new TailOf<>(
+                -1,
+                new ListOf<>("one", "two")
+            ),
+            Matchers.emptyIterable()
+        );
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.collection.IsEmptyIterable;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link FilteredInts}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class FilteredIntsTest {
+
+    @Test
+    void filtersItems() {
+        new Assertion<>(
+            "Must filter items",
+            new ListOf<>(new FilteredInts(item -> item > 2, 1, 2, 3, 4)),
+            new IsEqual<>(new ListOf<>(3, 4))
+        ).affirm();
+    }
+
+    @Test
+    void filtersEmptyItems() {
+        new Assertion<>(
+            "Must filter no items to nothing",
+            new ListOf<>(new FilteredInts(item -> item > 2)),
+            new IsEmptyIterable<>()
+        ).affirm();
+    }
+
+    @Test
+    void failsWhenNothingMatches() {
+        new Assertion<>(
+            "Must throw when no more items match",
+            () -> new FilteredInts(item -> item > 10, 1, 2, 3, 4).nextInt(),
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ImmutableSpliterator}.
+ *
+ * @since 0.53
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ImmutableSpliteratorTest {
+
+    @Test
+    void keepsCharacteristicsOfOrigin() {
+        new Assertion<>(
+            "Must keep characteristics of the original spliterator",
+            new ImmutableSpliterator<>(
+                new ListOf<>(1, 2, 3).spliterator()
+            ).hasCharacteristics(
+                Spliterator.IMMUTABLE
+                    | Spliterator.SIZED
+                    | Spliterator.SUBSIZED
+                    | Spliterator.ORDERED
+            ),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void splitsIntoImmutableParts() {
+        final Spliterator<Integer> suffix = new ImmutableSpliterator<>(
+            new ListOf<>(1, 2, 3, 4).spliterator()
+        );
+        new Assertion<>(
+            "Must split into immutable parts",
+            suffix.trySplit().hasCharacteristics(Spliterator.IMMUTABLE),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void traversesAllItemsInParallel() {
+        new Assertion<>(
+            "Must traverse all items in a parallel stream",
+            StreamSupport.stream(
+                new ImmutableSpliterator<>(
+                    new ListOf<>(1, 2, 3, 4, 5).spliterator()
+                ),
+                true
+            ).mapToInt(Integer::intValue).sum(),
+            new IsEqual<>(15)
+        ).affirm();
+    }
+}
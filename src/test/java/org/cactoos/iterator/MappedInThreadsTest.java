@@ -0,0 +1,195 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
+import org.cactoos.set.SetOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link MappedInThreads}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle JavadocVariableCheck (500 lines)
+ */
+final class MappedInThreadsTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void start() {
+        this.executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void stop() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void keepsOrder() {
+        new Assertion<>(
+            "Must return results in the order of the source",
+            new ListOf<>(
+                new MappedInThreads<Integer, Integer>(
+                    this.executor, 4,
+                    input -> {
+                        Thread.sleep((long) (5 - input));
+                        return input * 10;
+                    },
+                    new IteratorOf<>(1, 2, 3, 4, 5)
+                )
+            ),
+            new IsEqual<>(new ListOf<>(10, 20, 30, 40, 50))
+        ).affirm();
+    }
+
+    @Test
+    void returnsAllItemsUnordered() {
+        new Assertion<>(
+            "Must return all results in unordered mode",
+            new SetOf<>(
+                new IterableOf<>(
+                    new MappedInThreads<Integer, Integer>(
+                        this.executor, 3, false,
+                        input -> input + 1,
+                        new IteratorOf<>(1, 2, 3, 4, 5, 6, 7)
+                    )
+                )
+            ),
+            new HasValues<>(2, 3, 4, 5, 6, 7, 8)
+        ).affirm();
+    }
+
+    @Test
+    void limitsTasksInFlight() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final Iterator<Integer> mapped = new MappedInThreads<Integer, Integer>(
+            this.executor, 2,
+            input -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(1L);
+                running.decrementAndGet();
+                return input;
+            },
+            new RangeOf<>(1, 200, value -> value + 1)
+        );
+        while (mapped.hasNext()) {
+            mapped.next();
+        }
+        new Assertion<>(
+            "Must not map more items at once than allowed",
+            peak.get() <= 2,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void readsSourceLazily() {
+        final AtomicInteger pulled = new AtomicInteger();
+        final Iterator<Integer> mapped = new MappedInThreads<Integer, Integer>(
+            this.executor, 3,
+            input -> input,
+            new Mapped<>(
+                input -> {
+                    pulled.incrementAndGet();
+                    return input;
+                },
+                new Endless<>(1)
+            )
+        );
+        mapped.next();
+        new Assertion<>(
+            "Must not read more items than the window",
+            pulled.get(),
+            new IsEqual<>(4)
+        ).affirm();
+    }
+
+    @Test
+    void rethrowsFailure() {
+        new Assertion<>(
+            "Must rethrow the exception of the function",
+            () -> new MappedInThreads<Integer, Integer>(
+                this.executor, 2,
+                input -> {
+                    throw new IOException("can't map");
+                },
+                new IteratorOf<>(1)
+            ).next(),
+            new Throws<>(UncheckedIOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void keepsInterruptFlag() {
+        final Iterator<Integer> iterator = new MappedInThreads<>(
+            this.executor, 1,
+            input -> {
+                Thread.sleep(10_000L);
+                return input;
+            },
+            new IteratorOf<>(1)
+        );
+        Thread.currentThread().interrupt();
+        new Assertion<>(
+            "Must fail when interrupted",
+            iterator::next,
+            new Throws<>(UncheckedIOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must keep the thread interrupted",
+            Thread.interrupted(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void failsWhenEmpty() {
+        new Assertion<>(
+            "Must fail on empty source",
+            () -> new MappedInThreads<Integer, Integer>(
+                this.executor, 2, input -> input, new IteratorOf<>()
+            ).next(),
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Merged}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class MergedTest {
+
+    @Test
+    void mergesSortedIterators() {
+        new Assertion<>(
+            "Must merge iterators in order",
+            new ListOf<>(
+                new Merged<Integer>(
+                    Comparator.naturalOrder(),
+                    new IteratorOf<>(1, 4, 7),
+                    new IteratorOf<>(),
+                    new IteratorOf<>(2, 3, 9),
+                    new IteratorOf<>(5)
+                )
+            ),
+            new IsEqual<>(new ListOf<>(1, 2, 3, 4, 5, 7, 9))
+        ).affirm();
+    }
+
+    @Test
+    void keepsOrderOfEqualItems() {
+        new Assertion<>(
+            "Must return equal items in the order of sources",
+            new ListOf<>(
+                new Merged<String>(
+                    Comparator.comparing(String::length),
+                    new IteratorOf<>("a", "bb"),
+                    new IteratorOf<>("c", "dd")
+                )
+            ),
+            new IsEqual<>(new ListOf<>("a", "c", "bb", "dd"))
+        ).affirm();
+    }
+
+    @Test
+    void failsWhenEmpty() {
+        new Assertion<>(
+            "Must fail when there are no items",
+            () -> new Merged<Integer>(
+                Comparator.naturalOrder(),
+                new IterableOf<>()
+            ).next(),
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
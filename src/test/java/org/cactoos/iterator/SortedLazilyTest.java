@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link SortedLazily}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class SortedLazilyTest {
+
+    @Test
+    void sortsItems() {
+        new Assertion<>(
+            "Must sort items",
+            new ListOf<>(
+                new SortedLazily<Integer>(new IteratorOf<>(3, 1, 2, 5, 4))
+            ),
+            new IsEqual<>(new ListOf<>(1, 2, 3, 4, 5))
+        ).affirm();
+    }
+
+    @Test
+    void keepsOrderOfEqualItems() {
+        new Assertion<>(
+            "Must keep the order of equal items",
+            new ListOf<>(
+                new SortedLazily<String>(
+                    Comparator.comparing(String::length),
+                    new IteratorOf<>("bb", "a", "cc", "d", "e", "ff")
+                )
+            ),
+            new IsEqual<>(new ListOf<>("a", "d", "e", "bb", "cc", "ff"))
+        ).affirm();
+    }
+
+    @Test
+    void failsWhenExhausted() {
+        final Iterator<Integer> sorted = new SortedLazily<>(
+            new IteratorOf<>(1)
+        );
+        sorted.next();
+        new Assertion<>(
+            "Must fail when there are no more items",
+            sorted::next,
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link SortedOnDisk}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class SortedOnDiskTest {
+
+    @Test
+    void sortsInRuns(@TempDir final Path dir) {
+        final Random random = new Random(0L);
+        final List<Integer> items = new ArrayList<>(1000);
+        for (int idx = 0; idx < 1000; ++idx) {
+            items.add(random.nextInt(100));
+        }
+        final List<Integer> expected = new ArrayList<>(items);
+        Collections.sort(expected);
+        new Assertion<>(
+            "Must sort items through temporary files",
+            new ListOf<>(
+                new SortedOnDisk<Integer>(
+                    () -> dir,
+                    Comparator.naturalOrder(),
+                    64,
+                    (item, output) -> output.writeInt(item),
+                    DataInput::readInt,
+                    items.iterator()
+                )
+            ),
+            new IsEqual<>(expected)
+        ).affirm();
+    }
+
+    @Test
+    void deletesFiles(@TempDir final Path dir) throws IOException {
+        new ListOf<>(
+            new SortedOnDisk<String>(
+                () -> dir,
+                Comparator.reverseOrder(),
+                2,
+                (item, output) -> output.writeUTF(item),
+                DataInput::readUTF,
+                new IteratorOf<>("a", "c", "e", "b", "d")
+            )
+        );
+        try (Stream<Path> files = Files.list(dir)) {
+            new Assertion<>(
+                "Must delete temporary files when they are read",
+                files.count(),
+                new IsEqual<>(0L)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void sortsInMemoryWhenFits(@TempDir final Path dir) throws IOException {
+        new Assertion<>(
+            "Must sort a single run in memory",
+            new ListOf<>(
+                new SortedOnDisk<String>(
+                    () -> dir,
+                    Comparator.naturalOrder(),
+                    10,
+                    (item, output) -> {
+                        throw new IOException("must not be written");
+                    },
+                    DataInput::readUTF,
+                    new IteratorOf<>("b", "c", "a")
+                )
+            ),
+            new IsEqual<>(new ListOf<>("a", "b", "c"))
+        ).affirm();
+    }
+}
@@ -23,6 +23,7 @@
  */
 package org.cactoos.iterator;
 
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import org.cactoos.iterable.IterableOf;
 import org.hamcrest.core.IsEqual;
@@ -104,4 +105,31 @@ final class TailOfTest {
             new Throws<>(NoSuchElementException.class)
         ).affirm();
     }
+
+    @Test
+    void readsSourceLazily() {
+        final Iterator<String> source = new IteratorOf<>("one", "two");
+        new TailOf<>(1, source);
+        new Assertion<>(
+            "Must not read the source before the first access",
+            source.hasNext(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void keepsOnlyTailOfLongSource() {
+        new Assertion<>(
+            "Must get tail portion of a long iterator",
+            new IterableOf<>(
+                new TailOf<>(
+                    3,
+                    new RangeOf<>(1, 100_000, x -> x + 1)
+                )
+            ),
+            new IsEqual<>(
+                new IterableOf<>(99_998, 99_999, 100_000)
+            )
+        ).affirm();
+    }
 }
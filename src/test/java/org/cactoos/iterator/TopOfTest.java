@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.iterator;
+
+import java.util.Comparator;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link TopOf}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class TopOfTest {
+
+    @Test
+    void takesSmallestItems() {
+        new Assertion<>(
+            "Must take the smallest items in order",
+            new ListOf<>(
+                new TopOf<Integer>(3, new IteratorOf<>(5, 1, 4, 2, 3))
+            ),
+            new IsEqual<>(new ListOf<>(1, 2, 3))
+        ).affirm();
+    }
+
+    @Test
+    void takesBiggestItems() {
+        new Assertion<>(
+            "Must take the biggest items with reversed comparator",
+            new ListOf<>(
+                new TopOf<Integer>(
+                    2, Comparator.reverseOrder(),
+                    new IteratorOf<>(5, 1, 4, 2, 3)
+                )
+            ),
+            new IsEqual<>(new ListOf<>(5, 4))
+        ).affirm();
+    }
+
+    @Test
+    void keepsFirstOfEqualItems() {
+        new Assertion<>(
+            "Must behave like head of stable sort",
+            new ListOf<>(
+                new TopOf<String>(
+                    3, Comparator.comparing(String::length),
+                    new IteratorOf<>("bb", "a", "cc", "d", "e")
+                )
+            ),
+            new IsEqual<>(new ListOf<>("a", "d", "e"))
+        ).affirm();
+    }
+
+    @Test
+    void takesAllWhenFewer() {
+        new Assertion<>(
+            "Must take all items when there are fewer of them",
+            new ListOf<>(new TopOf<Integer>(10, new IteratorOf<>(2, 1))),
+            new IsEqual<>(new ListOf<>(1, 2))
+        ).affirm();
+    }
+
+    @Test
+    void takesNothingForZero() {
+        new Assertion<>(
+            "Must take nothing for zero",
+            new TopOf<Integer>(0, new IteratorOf<>(2, 1)).hasNext(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+}
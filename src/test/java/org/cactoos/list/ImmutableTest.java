@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Spliterator;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.junit.jupiter.api.Test;
@@ -559,4 +560,42 @@ class ImmutableTest {
         ).affirm();
     }
 
+    @Test
+    void wrapsArrayWithoutCopying() {
+        final String[] array = {"a", "b", "c"};
+        final List<String> immutable = new Immutable<>(array);
+        array[1] = "x";
+        new Assertion<>(
+            "Must reflect inner array in the decorator",
+            immutable,
+            new HasValues<>("a", "x", "c")
+        ).affirm();
+    }
+
+    @Test
+    void subListReflectsInnerList() {
+        final List<String> strings = new ArrayList<>(Arrays.asList("a", "b", "c"));
+        final List<String> sub = new Immutable<>(strings).subList(1, 3);
+        strings.set(2, "d");
+        new Assertion<>(
+            "Must reflect inner list in the sub list",
+            sub,
+            new IsEqual<>(Arrays.asList("b", "d"))
+        ).affirm();
+    }
+
+    @Test
+    void returnsImmutableSizedSpliterator() {
+        new Assertion<>(
+            "Must return an immutable, sized and subsized spliterator",
+            new Immutable<>("one", "two", "three").spliterator()
+                .hasCharacteristics(
+                    Spliterator.IMMUTABLE
+                        | Spliterator.SIZED
+                        | Spliterator.SUBSIZED
+                ),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
 }
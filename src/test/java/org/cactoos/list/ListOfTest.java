@@ -23,12 +23,15 @@
  */
 package org.cactoos.list;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
 import org.junit.Test;
 import org.llorllale.cactoos.matchers.HasSize;
 
@@ -166,4 +169,26 @@ public final class ListOfTest {
         );
     }
 
+    @Test
+    public void supportsRandomAccess() {
+        MatcherAssert.assertThat(
+            "Can't access items by index in constant time.",
+            new ListOf<>(new IterableOf<>(1, 2)),
+            new IsInstanceOf(RandomAccess.class)
+        );
+    }
+
+    @Test
+    public void copiesCollection() {
+        final List<Integer> origin = new ArrayList<>(0);
+        origin.add(1);
+        final List<Integer> list = new ListOf<>(origin);
+        origin.add(2);
+        MatcherAssert.assertThat(
+            "Can't copy items of a collection.",
+            list,
+            new IsEqual<>(new ListOf<>(1))
+        );
+    }
+
 }
@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Counted}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class CountedTest {
+
+    @Test
+    void countsHitsAndMisses() {
+        final AtomicLong hits = new AtomicLong();
+        final AtomicLong misses = new AtomicLong();
+        final Map<String, Integer> map = new Counted<>(
+            new Lru<>(2), hits, misses, new AtomicLong()
+        );
+        map.get("a");
+        map.put("a", 1);
+        map.get("a");
+        map.get("a");
+        new Assertion<>(
+            "Must count hits",
+            hits.get(),
+            new IsEqual<>(2L)
+        ).affirm();
+        new Assertion<>(
+            "Must count misses",
+            misses.get(),
+            new IsEqual<>(1L)
+        ).affirm();
+    }
+
+    @Test
+    void countsEvictions() {
+        final AtomicLong evictions = new AtomicLong();
+        final Map<Integer, Integer> map = new Counted<>(
+            new Lru<>(2), new AtomicLong(), new AtomicLong(), evictions
+        );
+        for (int idx = 0; idx < 5; ++idx) {
+            map.put(idx, idx);
+        }
+        map.put(4, 0);
+        new Assertion<>(
+            "Must count evictions",
+            evictions.get(),
+            new IsEqual<>(3L)
+        ).affirm();
+    }
+}
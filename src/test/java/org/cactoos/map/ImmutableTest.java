@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Immutable}.
+ *
+ * @since 0.53
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ImmutableTest {
+
+    @Test
+    void innerMapIsDecorated() {
+        final Map<Integer, String> origin = new HashMap<>(0);
+        final Map<Integer, String> immutable = new Immutable<>(origin);
+        origin.put(1, "one");
+        new Assertion<>(
+            "Must reflect inner map in the decorator",
+            immutable.get(1),
+            new IsEqual<>("one")
+        ).affirm();
+    }
+
+    @Test
+    void doesNotAllowPutting() {
+        new Assertion<>(
+            "Must not allow putting entries",
+            () -> new Immutable<>(
+                new MapOf<Integer, Integer>(new MapEntry<>(1, 1))
+            ).put(2, 2),
+            new Throws<>(UnsupportedOperationException.class)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotAllowChangingEntries() {
+        new Assertion<>(
+            "Must not allow changing values of entries",
+            () -> new Immutable<>(
+                new MapOf<Integer, Integer>(new MapEntry<>(1, 1))
+            ).entrySet().iterator().next().setValue(2),
+            new Throws<>(UnsupportedOperationException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.cactoos.func.StickyFunc;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Lfu}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class LfuTest {
+
+    @Test
+    void keepsPopularEntryUnderScan() {
+        final Map<Integer, Integer> map = new Lfu<>(10);
+        map.put(-1, -1);
+        for (int idx = 0; idx < 20; ++idx) {
+            map.get(-1);
+        }
+        for (int idx = 0; idx < 100; ++idx) {
+            map.put(idx, idx);
+        }
+        new Assertion<>(
+            "Must keep the frequently used entry",
+            map.get(-1),
+            new IsEqual<>(-1)
+        ).affirm();
+    }
+
+    @Test
+    void keepsPopularKeysOfStickyFuncUnderScan() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<String, String> func = new StickyFunc<>(
+            key -> {
+                calls.incrementAndGet();
+                return key;
+            },
+            new Lfu<>(100)
+        );
+        for (int round = 0; round < 6; ++round) {
+            for (int idx = 0; idx < 50; ++idx) {
+                func.apply(String.format("hot%d", idx));
+            }
+        }
+        for (int idx = 0; idx < 2000; ++idx) {
+            func.apply(String.format("scan%d", idx));
+        }
+        calls.set(0);
+        for (int idx = 0; idx < 50; ++idx) {
+            func.apply(String.format("hot%d", idx));
+        }
+        new Assertion<>(
+            "Must not recalculate popular keys after a scan",
+            calls.get(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+
+    @Test
+    void keepsSize() {
+        final Map<Integer, Integer> map = new Lfu<>(5);
+        for (int idx = 0; idx < 100; ++idx) {
+            map.put(idx, idx);
+        }
+        new Assertion<>(
+            "Must not grow above the limit",
+            map.size(),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+
+    @Test
+    void replacesValue() {
+        final Map<String, Integer> map = new Lfu<>(3);
+        map.put("a", 1);
+        map.put("a", 2);
+        new Assertion<>(
+            "Must replace the value",
+            map.get("a"),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void removesEntry() {
+        final Map<String, Integer> map = new Lfu<>(3);
+        map.put("x", 1);
+        map.remove("x");
+        new Assertion<>(
+            "Must remove the entry",
+            map.containsKey("x"),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void acceptsNullKey() {
+        final Map<String, Integer> map = new Lfu<>(3);
+        map.put(null, 1);
+        new Assertion<>(
+            "Must keep an entry with null key",
+            map.get(null),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+}
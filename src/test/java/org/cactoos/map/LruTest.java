@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.map;
+
+import java.util.Map;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+
+/**
+ * Test case for {@link Lru}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class LruTest {
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        final Map<Integer, String> map = new Lru<>(2);
+        map.put(1, "one");
+        map.put(2, "two");
+        map.get(1);
+        map.put(3, "three");
+        new Assertion<>(
+            "Must evict the least recently used entry",
+            map.keySet(),
+            new HasValues<>(1, 3)
+        ).affirm();
+    }
+
+    @Test
+    void keepsSize() {
+        final Map<Integer, Integer> map = new Lru<>(3);
+        for (int idx = 0; idx < 10; ++idx) {
+            map.put(idx, idx);
+        }
+        new Assertion<>(
+            "Must not grow above the limit",
+            map.size(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void keepsNothingWithZeroLimit() {
+        final Map<Integer, Integer> map = new Lru<>(0);
+        map.put(1, 1);
+        new Assertion<>(
+            "Must be empty",
+            map.isEmpty(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
@@ -344,4 +344,13 @@ public final class AvgOfTest {
             new AllOf<Number>(new IsNumber(2.5), new IsNumber(2.5))
         ).affirm();
     }
+
+    @Test
+    public void withNonTerminatingDecimalAverage() {
+        new Assertion<>(
+            "Average of 1, 1 and 2 must be 4/3",
+            new AvgOf(1, 1, 2).doubleValue(),
+            Matchers.closeTo(1.3333d, 0.0001d)
+        ).affirm();
+    }
 }
@@ -153,4 +153,56 @@ final class SumOfTest {
             new IsEqual<>(4_294_967_300.0f)
         );
     }
+
+    @Test
+    void compensatesDoubleRoundingErrors() {
+        MatcherAssert.assertThat(
+            new SumOf(1.0e16d, 1.0d, -1.0e16d).doubleValue(),
+            new IsEqual<>(1.0d)
+        );
+    }
+
+    @Test
+    void sumsDoublesAsBinaryNumbers() {
+        MatcherAssert.assertThat(
+            new SumOf(0.1d, 0.2d).doubleValue(),
+            new IsEqual<>(0.1d + 0.2d)
+        );
+    }
+
+    @Test
+    void sumsLongsAboveMaxValue() {
+        MatcherAssert.assertThat(
+            new SumOf(Long.MAX_VALUE, Long.MAX_VALUE).doubleValue(),
+            new IsEqual<>(2.0d * Long.MAX_VALUE)
+        );
+    }
+
+    @Test
+    void readsNumbersOnce() {
+        MatcherAssert.assertThat(
+            new SumOf(
+                new IterableOf<Number>(
+                    new ListOf<Number>(Long.MAX_VALUE, 1L, 5L).iterator()
+                )
+            ).doubleValue(),
+            new IsEqual<>(Long.MAX_VALUE + 6.0d)
+        );
+        MatcherAssert.assertThat(
+            new SumOf(
+                new IterableOf<Number>(
+                    new ListOf<Number>(1, 2, 3.5f).iterator()
+                )
+            ).doubleValue(),
+            new IsEqual<>(6.5d)
+        );
+    }
+
+    @Test
+    void sumsMixedNumbers() {
+        MatcherAssert.assertThat(
+            new SumOf(1, 2L, 0.5d).doubleValue(),
+            new IsEqual<>(3.5d)
+        );
+    }
 }
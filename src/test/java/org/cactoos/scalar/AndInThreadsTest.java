@@ -224,4 +224,17 @@ final class AndInThreadsTest {
         );
     }
 
+    @Test
+    void evaluatesMoreThanOnce() throws Exception {
+        final Scalar<Boolean> and = new AndInThreads(
+            () -> true, () -> true
+        );
+        and.value();
+        new Assertion<>(
+            "Must evaluate again with a new executor",
+            and,
+            new HasValue<>(true)
+        ).affirm();
+    }
+
 }
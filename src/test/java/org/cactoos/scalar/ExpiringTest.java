@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link Expiring}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ExpiringTest {
+
+    @Test
+    void cachesValue() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Expiring<>(
+            calls::incrementAndGet, Duration.ofHours(1L)
+        );
+        scalar.value();
+        new Assertion<>(
+            "Must return cached value",
+            scalar,
+            new HasValue<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void refreshesAhead() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Expiring<>(
+            calls::incrementAndGet, Duration.ZERO, Runnable::run
+        );
+        scalar.value();
+        new Assertion<>(
+            "Must return stale value",
+            scalar.value(),
+            new IsEqual<>(1)
+        ).affirm();
+        new Assertion<>(
+            "Must return refreshed value",
+            scalar.value(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterator.FilteredDoubles;
+import org.cactoos.iterator.IteratorOfDoubles;
+import org.cactoos.iterator.MappedDoubles;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link FoldedDoubles}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class FoldedDoublesTest {
+
+    @Test
+    void foldsVarargs() {
+        new Assertion<>(
+            "Must fold items",
+            new FoldedDoubles(
+                0.0, (memo, item) -> memo + item,
+                1.0, 2.0, 3.0, 4.0
+            ),
+            new HasValue<>(10.0)
+        ).affirm();
+    }
+
+    @Test
+    void foldsPipeline() {
+        new Assertion<>(
+            "Must fold mapped and filtered items",
+            new FoldedDoubles(
+                0.0, (memo, item) -> memo + item,
+                new IterableOf<>(
+                    () -> new MappedDoubles(
+                        item -> item * 2,
+                        new FilteredDoubles(
+                            item -> item < 3,
+                            new IteratorOfDoubles(1.0, 2.0, 3.0, 4.0)
+                        )
+                    )
+                )
+            ),
+            new HasValue<>(6.0)
+        ).affirm();
+    }
+
+    @Test
+    void foldsBoxedItems() {
+        new Assertion<>(
+            "Must fold boxed items",
+            new FoldedDoubles(
+                1.0, (memo, item) -> memo * item,
+                new IterableOf<>(1.0, 2.0, 3.0, 4.0)
+            ),
+            new HasValue<>(24.0)
+        ).affirm();
+    }
+}
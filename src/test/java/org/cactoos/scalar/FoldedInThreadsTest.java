@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.cactoos.list.ListOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link FoldedInThreads}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class FoldedInThreadsTest {
+
+    @Test
+    void foldsList() {
+        final List<Long> numbers = new ArrayList<>(100_000);
+        for (long idx = 1L; idx <= 100_000L; ++idx) {
+            numbers.add(idx);
+        }
+        new Assertion<>(
+            "Must fold all items",
+            new FoldedInThreads<>(
+                0L, (memo, item) -> memo + item, Long::sum, numbers, 100L
+            ),
+            new HasValue<>(5_000_050_000L)
+        ).affirm();
+    }
+
+    @Test
+    void keepsOrder() {
+        final List<String> digits = new ArrayList<>(5000);
+        final StringBuilder expected = new StringBuilder(5000);
+        for (int idx = 0; idx < 5000; ++idx) {
+            final String digit = String.valueOf(idx % 10);
+            digits.add(digit);
+            expected.append(digit);
+        }
+        new Assertion<>(
+            "Must combine parts in the original order",
+            new FoldedInThreads<>(
+                new ForkJoinPool(4),
+                "", (memo, item) -> memo + item, String::concat,
+                digits, 16L
+            ),
+            new HasValue<>(expected.toString())
+        ).affirm();
+    }
+
+    @Test
+    void foldsEmptyList() {
+        new Assertion<>(
+            "Must return the input for an empty list",
+            new FoldedInThreads<>(
+                7, (Integer memo, Integer item) -> memo + item, Integer::sum,
+                new ListOf<Integer>()
+            ),
+            new HasValue<>(7)
+        ).affirm();
+    }
+
+    @Test
+    void rethrowsFailure() {
+        final List<Integer> numbers = new ArrayList<>(1000);
+        for (int idx = 0; idx < 1000; ++idx) {
+            numbers.add(idx);
+        }
+        new Assertion<>(
+            "Must rethrow the original exception",
+            new FoldedInThreads<>(
+                0,
+                (Integer memo, Integer item) -> {
+                    if (item == 500) {
+                        throw new IOException("broken item");
+                    }
+                    return memo + item;
+                },
+                Integer::sum,
+                numbers,
+                10L
+            ),
+            new Throws<>("broken item", IOException.class)
+        ).affirm();
+    }
+}
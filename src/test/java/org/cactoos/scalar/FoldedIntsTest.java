@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterator.FilteredInts;
+import org.cactoos.iterator.IteratorOfInts;
+import org.cactoos.iterator.MappedInts;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link FoldedInts}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class FoldedIntsTest {
+
+    @Test
+    void foldsVarargs() {
+        new Assertion<>(
+            "Must fold items",
+            new FoldedInts(
+                0, (memo, item) -> memo + item,
+                1, 2, 3, 4
+            ),
+            new HasValue<>(10)
+        ).affirm();
+    }
+
+    @Test
+    void foldsPipeline() {
+        new Assertion<>(
+            "Must fold mapped and filtered items",
+            new FoldedInts(
+                0, (memo, item) -> memo + item,
+                new IterableOf<>(
+                    () -> new MappedInts(
+                        item -> item * 2,
+                        new FilteredInts(
+                            item -> item < 3,
+                            new IteratorOfInts(1, 2, 3, 4)
+                        )
+                    )
+                )
+            ),
+            new HasValue<>(6)
+        ).affirm();
+    }
+
+    @Test
+    void foldsBoxedItems() {
+        new Assertion<>(
+            "Must fold boxed items",
+            new FoldedInts(
+                1, (memo, item) -> memo * item,
+                new IterableOf<>(1, 2, 3, 4)
+            ),
+            new HasValue<>(24)
+        ).affirm();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterator.FilteredLongs;
+import org.cactoos.iterator.IteratorOfLongs;
+import org.cactoos.iterator.MappedLongs;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link FoldedLongs}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class FoldedLongsTest {
+
+    @Test
+    void foldsVarargs() {
+        new Assertion<>(
+            "Must fold items",
+            new FoldedLongs(
+                0L, (memo, item) -> memo + item,
+                1L, 2L, 3L, 4L
+            ),
+            new HasValue<>(10L)
+        ).affirm();
+    }
+
+    @Test
+    void foldsPipeline() {
+        new Assertion<>(
+            "Must fold mapped and filtered items",
+            new FoldedLongs(
+                0L, (memo, item) -> memo + item,
+                new IterableOf<>(
+                    () -> new MappedLongs(
+                        item -> item * 2,
+                        new FilteredLongs(
+                            item -> item < 3,
+                            new IteratorOfLongs(1L, 2L, 3L, 4L)
+                        )
+                    )
+                )
+            ),
+            new HasValue<>(6L)
+        ).affirm();
+    }
+
+    @Test
+    void foldsBoxedItems() {
+        new Assertion<>(
+            "Must fold boxed items",
+            new FoldedLongs(
+                1L, (memo, item) -> memo * item,
+                new IterableOf<>(1L, 2L, 3L, 4L)
+            ),
+            new HasValue<>(24L)
+        ).affirm();
+    }
+}
@@ -25,6 +25,7 @@ package org.cactoos.scalar;
 
 import java.io.IOException;
 import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
@@ -135,4 +136,33 @@ final class ItemAtTest {
             new HasValue<>(item.value())
         ).affirm();
     }
+
+    @Test
+    void elementByPosFromListTest() {
+        new Assertion<>(
+            "must take the item by position from the list",
+            new ItemAt<>(
+                2,
+                // @checkstyle MagicNumber (1 line)
+                new ListOf<>(1, 2, 3)
+            ),
+            new HasValue<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void failForPosMoreLengthOfListTest() {
+        new Assertion<>(
+            "Must fail for greater than length position of the list",
+            () -> new ItemAt<>(
+                // @checkstyle MagicNumberCheck (2 lines)
+                3,
+                new ListOf<>(1, 2, 3)
+            ).value(),
+            new Throws<>(
+                "The iterable doesn't have the position #3",
+                IOException.class
+            )
+        ).affirm();
+    }
 }
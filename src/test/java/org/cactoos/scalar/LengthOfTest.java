@@ -24,10 +24,13 @@
 
 package org.cactoos.scalar;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.cactoos.io.InputOf;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.text.TextOf;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
 import org.llorllale.cactoos.matchers.Throws;
@@ -124,4 +127,15 @@ final class LengthOfTest {
             new HasValue<>(12L)
         ).affirm();
     }
+
+    @Test
+    void lengthOfFile(final @TempDir Path folder) throws Exception {
+        final Path file = folder.resolve("length.txt");
+        Files.write(file, new byte[1000]);
+        new Assertion<>(
+            "Must calculate length of file",
+            new LengthOf(new InputOf(file)),
+            new HasValue<>(1000L)
+        ).affirm();
+    }
 }
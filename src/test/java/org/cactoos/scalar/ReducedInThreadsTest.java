@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.cactoos.Scalar;
+import org.cactoos.list.ListOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ReducedInThreads}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ReducedInThreadsTest {
+
+    @Test
+    void reducesVarargs() {
+        new Assertion<>(
+            "Must reduce values",
+            new ReducedInThreads<>(Integer::sum, 1, 2, 3, 4),
+            new HasValue<>(10)
+        ).affirm();
+    }
+
+    @Test
+    void reducesNulls() {
+        new Assertion<>(
+            "Must pass nulls to the function, as Reduced does",
+            new ReducedInThreads<String>(
+                (first, second) -> first + second, "a", null, "b"
+            ),
+            new HasValue<>("anullb")
+        ).affirm();
+    }
+
+    @Test
+    void keepsOrder() {
+        final List<Scalar<String>> letters = new ArrayList<>(2000);
+        final StringBuilder expected = new StringBuilder(2000);
+        for (int idx = 0; idx < 2000; ++idx) {
+            final String letter = String.valueOf((char) ('a' + idx % 26));
+            letters.add(new Constant<>(letter));
+            expected.append(letter);
+        }
+        new Assertion<>(
+            "Must reduce parts in the original order",
+            new ReducedInThreads<>(String::concat, letters, 8L),
+            new HasValue<>(expected.toString())
+        ).affirm();
+    }
+
+    @Test
+    void failsForEmptyIterable() {
+        new Assertion<>(
+            "Must fail for an empty iterable",
+            new ReducedInThreads<>(
+                (String first, String second) -> first,
+                new ListOf<Scalar<String>>()
+            ),
+            new Throws<>(
+                "Can't find first element in an empty iterable",
+                NoSuchElementException.class
+            )
+        ).affirm();
+    }
+}
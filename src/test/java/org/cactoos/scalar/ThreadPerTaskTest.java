@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ThreadPerTask}.
+ *
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ThreadPerTaskTest {
+
+    @Test
+    void runsTasks() throws Exception {
+        final ExecutorService service = new ThreadPerTask().value();
+        try {
+            new Assertion<>(
+                "Must run the task",
+                service.submit(() -> 1 + 1).get(1L, TimeUnit.SECONDS),
+                new IsEqual<>(2)
+            ).affirm();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void runsTasksConcurrently() throws Exception {
+        final ExecutorService service = new ThreadPerTask().value();
+        try {
+            final CountDownLatch latch = new CountDownLatch(100);
+            for (int idx = 0; idx < 100; ++idx) {
+                service.submit(
+                    () -> {
+                        latch.countDown();
+                        latch.await();
+                        return true;
+                    }
+                );
+            }
+            new Assertion<>(
+                "Must start a thread for each task",
+                latch.await(5L, TimeUnit.SECONDS),
+                new IsEqual<>(true)
+            ).affirm();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void usesFallbackOrVirtualThreads() throws Exception {
+        final ExecutorService fallback = Executors.newSingleThreadExecutor();
+        try {
+            new Assertion<>(
+                "Must use the fallback only without virtual threads",
+                new ThreadPerTask(() -> fallback).value() == fallback,
+                new IsEqual<>(ThreadPerTaskTest.noVirtualThreads())
+            ).affirm();
+        } finally {
+            fallback.shutdown();
+        }
+    }
+
+    /**
+     * Check whether virtual threads are missing in this JDK.
+     * @return TRUE if they are missing
+     */
+    private static boolean noVirtualThreads() {
+        boolean missing;
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            missing = false;
+        } catch (final NoSuchMethodException ex) {
+            missing = true;
+        }
+        return missing;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.set;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Immutable}.
+ *
+ * @since 0.53
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ImmutableTest {
+
+    @Test
+    void innerSetIsDecorated() {
+        final Set<Integer> origin = new HashSet<>(new SetOf<>(1, 2));
+        final Set<Integer> immutable = new Immutable<>(origin);
+        origin.add(3);
+        new Assertion<>(
+            "Must reflect inner set in the decorator",
+            immutable,
+            new HasValues<>(1, 2, 3)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotAllowAdding() {
+        new Assertion<>(
+            "Must not allow adding items",
+            () -> new Immutable<>(new SetOf<>(1, 2)).add(3),
+            new Throws<>(
+                "#add(): the set is read-only",
+                UnsupportedOperationException.class
+            )
+        ).affirm();
+    }
+
+    @Test
+    void equalsToOriginal() {
+        new Assertion<>(
+            "Must be equal to the original set",
+            new Immutable<>(new SetOf<>(1, 2)),
+            new IsEqual<>(new SetOf<>(2, 1))
+        ).affirm();
+    }
+}
@@ -26,6 +26,7 @@ package org.cactoos.set;
 import org.cactoos.Text;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Joined;
+import org.cactoos.list.ListOf;
 import org.cactoos.text.TextOf;
 import org.hamcrest.core.AllOf;
 import org.junit.jupiter.api.Test;
@@ -146,4 +147,17 @@ final class SetOfTest {
             )
         ).affirm();
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void behaveAsSetMadeOfCollection() {
+        new Assertion<>(
+            "Must keep unique items of a collection",
+            new SetOf<>(new ListOf<>(1, 2, 2, 3, 1)),
+            new AllOf<>(
+                new HasSize(3),
+                new HasValues<>(1, 2, 3)
+            )
+        ).affirm();
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.io.StringReader;
+import org.cactoos.io.InputOf;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasString;
+
+/**
+ * Test case for {@link ChunksOf}.
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ChunksOfTest {
+
+    @Test
+    void readsInputInChunks() {
+        new Assertion<>(
+            "Must read the input in chunks",
+            new ChunksOf(new InputOf("Hello, world"), 5),
+            new IsEqual<>(
+                new IterableOf<>(
+                    new TextOf("Hello"),
+                    new TextOf(", wor"),
+                    new TextOf("ld")
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void keepsSurrogatePairsTogether() {
+        new Assertion<>(
+            "Must not split a surrogate pair between chunks",
+            new ChunksOf(new StringReader("ab\uD83D\uDE00c"), 3),
+            new IsEqual<>(
+                new IterableOf<>(
+                    new TextOf("ab"),
+                    new TextOf("\uD83D\uDE00c")
+                )
+            )
+        ).affirm();
+    }
+
+    @Test
+    void transformsEveryChunk() {
+        new Assertion<>(
+            "Must upper every chunk",
+            new Joined(
+                new TextOf(""),
+                new Mapped<>(Upper::new, new ChunksOf(new TextOf("abcde"), 2))
+            ),
+            new HasString("ABCDE")
+        ).affirm();
+    }
+}
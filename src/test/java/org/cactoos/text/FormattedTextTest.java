@@ -116,4 +116,15 @@ public final class FormattedTextTest {
             new HasString("Format with text: Cactoos")
         ).affirm();
     }
+
+    @Test
+    public void formatsWithTemplate() {
+        new Assertion<>(
+            "Can't format a text with template",
+            new FormattedText(
+                new Template("{}. Formatted {}"), 1, "template"
+            ),
+            new HasString("1. Formatted template")
+        ).affirm();
+    }
 }
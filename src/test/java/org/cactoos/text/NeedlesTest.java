@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Needles}.
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class NeedlesTest {
+
+    @Test
+    void findsLeftmostNeedle() {
+        new Assertion<>(
+            "Must find the needle that starts first",
+            new Needles("bc", "abcd").find("xabcd", 0),
+            new IsEqual<>(new int[] {1, 5, 1})
+        ).affirm();
+    }
+
+    @Test
+    void findsLongestNeedle() {
+        new Assertion<>(
+            "Must find the longest needle of the ones at the same place",
+            new Needles("ab", "abc", "a").find("xxabcx", 1),
+            new IsEqual<>(new int[] {2, 5, 1})
+        ).affirm();
+    }
+
+    @Test
+    void findsNothing() {
+        new Assertion<>(
+            "Must find nothing if there are no needles",
+            new Needles("cat", "dog").find("a cow", 0),
+            new IsEqual<>(new int[0])
+        ).affirm();
+    }
+
+    @Test
+    void rejectsEmptyNeedle() {
+        new Assertion<>(
+            "Must reject an empty needle",
+            () -> new Needles("a", "").foundIn("abc"),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
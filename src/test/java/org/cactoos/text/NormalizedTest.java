@@ -43,4 +43,13 @@ final class NormalizedTest {
         ).affirm();
     }
 
+    @Test
+    void trimsControlCharacters() {
+        new Assertion<>(
+            "Must trim control characters, but keep them inside",
+            new Normalized("\u0001 a\u0001 \r\n b \u0002"),
+            new HasString("a\u0001 b")
+        ).affirm();
+    }
+
 }
@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasString;
+
+/**
+ * Test case for {@link ReplacedChunks}.
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ReplacedChunksTest {
+
+    @Test
+    void replacesAcrossChunks() {
+        new Assertion<>(
+            "Must replace the matches split between chunks",
+            new Joined(
+                new TextOf(""),
+                new ReplacedChunks(
+                    new ChunksOf(new TextOf("one cat, two cats"), 3),
+                    "cat",
+                    "dog"
+                )
+            ),
+            new HasString("one dog, two dogs")
+        ).affirm();
+    }
+
+    @Test
+    void replacesGreedyMatches() {
+        new Assertion<>(
+            "Must wait for the whole greedy match",
+            new Joined(
+                new TextOf(""),
+                new ReplacedChunks(
+                    new ChunksOf(new TextOf("a1234b56c"), 2),
+                    () -> Pattern.compile("\\d+"),
+                    matcher -> String.valueOf(matcher.group().length())
+                )
+            ),
+            new HasString("a4b2c")
+        ).affirm();
+    }
+
+    @Test
+    void replacesEmptyMatches() {
+        new Assertion<>(
+            "Must replace empty matches like the whole text does",
+            new Joined(
+                new TextOf(""),
+                new ReplacedChunks(
+                    new ChunksOf(new TextOf("ayyb"), 2), "y*", "-"
+                )
+            ),
+            new HasString("-a--b-")
+        ).affirm();
+    }
+
+    @Test
+    void cutsMatchesLongerThanOverlap() {
+        new Assertion<>(
+            "Must replace a match longer than the overlap piece by piece",
+            new Joined(
+                new TextOf(""),
+                new ReplacedChunks(
+                    new ChunksOf(new TextOf("xaaaaaaaaaay"), 4),
+                    () -> Pattern.compile("a+"),
+                    matcher -> String.format("<%d>", matcher.group().length()),
+                    3
+                )
+            ),
+            new HasString("x<3><4><3>y")
+        ).affirm();
+    }
+}
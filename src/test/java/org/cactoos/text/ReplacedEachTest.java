@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasString;
+
+/**
+ * Test case for {@link ReplacedEach}.
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ReplacedEachTest {
+
+    @Test
+    void replacesAllNeedles() {
+        new Assertion<>(
+            "Must replace all the needles in one pass",
+            new ReplacedEach(
+                new TextOf("he said: she is"),
+                new MapOf<String, String>(
+                    new MapEntry<>("he", "she"),
+                    new MapEntry<>("she", "he")
+                )
+            ),
+            new HasString("she said: he is")
+        ).affirm();
+    }
+
+    @Test
+    void replacesWithFunction() {
+        new Assertion<>(
+            "Must replace the needles with the function results",
+            new ReplacedEach(
+                new TextOf("user=john token=abc"),
+                new Needles("john", "abc"),
+                needle -> new Repeated("*", needle.length()).asString()
+            ),
+            new HasString("user=**** token=***")
+        ).affirm();
+    }
+
+    @Test
+    void keepsTextWithoutNeedles() {
+        new Assertion<>(
+            "Must not change the text without needles",
+            new ReplacedEach(
+                "nothing here",
+                new MapOf<String, String>("absent", "present")
+            ),
+            new HasString("nothing here")
+        ).affirm();
+    }
+}
@@ -190,4 +190,30 @@ final class ReplacedTest {
             new HasString("3 3 GHI1JKL")
         ).affirm();
     }
+
+    @Test
+    void replacesLiteralWithMetaInReplacement() {
+        new Assertion<>(
+            "Must expand group references in replacement",
+            new Replaced(
+                new TextOf("price: 10"),
+                "(\\d+)",
+                "\\$$1.00"
+            ),
+            new HasString("price: $10.00")
+        ).affirm();
+    }
+
+    @Test
+    void replacesNamedGroups() {
+        new Assertion<>(
+            "Must expand named group references in replacement",
+            new Replaced(
+                new TextOf("John Smith"),
+                "(?<first>\\w+) (?<last>\\w+)",
+                "${last}, ${first}"
+            ),
+            new HasString("Smith, John")
+        ).affirm();
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Replacement}.
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ReplacementTest {
+
+    @Test
+    void expandsGroupsAndEscapes() {
+        final Matcher matcher = Pattern.compile("(?<key>\\w+)=(\\d)")
+            .matcher("size=7");
+        matcher.find();
+        new Assertion<>(
+            "Must expand groups and escapes like appendReplacement",
+            new Replacement("${key}:\\$$2$20").appendTo(
+                new StringBuilder(0), matcher
+            ).toString(),
+            new IsEqual<>("size:$770")
+        ).affirm();
+    }
+
+    @Test
+    void rejectsTrailingDollar() {
+        final Matcher matcher = Pattern.compile("a").matcher("a");
+        matcher.find();
+        new Assertion<>(
+            "Must reject a dollar sign without a group",
+            () -> new Replacement("x$").appendTo(new StringBuilder(0), matcher),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Slices}.
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class SlicesTest {
+
+    @Test
+    void splitsLikeString() {
+        final String text = ",a,,b,,";
+        new Assertion<>(
+            "Must split like String.split() does",
+            new Mapped<>(CharSequence::toString, new Slices(text, ",")),
+            new IsEqual<>(new IterableOf<>(text.split(",")))
+        ).affirm();
+    }
+
+    @Test
+    void splitsWithLimit() {
+        final String text = "1 2  3";
+        new Assertion<>(
+            "Must keep the rest of the text in the last piece",
+            new Mapped<>(CharSequence::toString, new Slices(text, "\\s+", 2)),
+            new IsEqual<>(new IterableOf<>(text.split("\\s+", 2)))
+        ).affirm();
+    }
+
+    @Test
+    void skipsLeadingEmptyMatch() {
+        final String text = "abc";
+        new Assertion<>(
+            "Must not start with an empty piece on a zero-width match",
+            new Mapped<>(CharSequence::toString, new Slices(text, "")),
+            new IsEqual<>(new IterableOf<>(text.split("")))
+        ).affirm();
+    }
+}
@@ -23,7 +23,9 @@
  */
 package org.cactoos.text;
 
+import java.io.StringReader;
 import org.cactoos.Text;
+import org.cactoos.io.InputOf;
 import org.cactoos.iterable.IterableOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
@@ -133,4 +135,53 @@ final class SplitTest {
             )
         ).affirm();
     }
+
+    @Test
+    void splitInput() throws Exception {
+        new Assertion<>(
+            "Must split input read in chunks",
+            new Split(new InputOf("one, two,three"), ",\\s*"),
+            new IsEqual<>(
+                new IterableOf<>(new TextOf("one"), new TextOf("two"), new TextOf("three"))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void splitReader() throws Exception {
+        new Assertion<>(
+            "Must split reader with literal delimiter",
+            new Split(new StringReader("a::b::"), "::"),
+            new IsEqual<>(new IterableOf<>(new TextOf("a"), new TextOf("b")))
+        ).affirm();
+    }
+
+    @Test
+    void splitAcrossChunks() throws Exception {
+        new Assertion<>(
+            "Must find delimiters split between chunks",
+            new Split(new ChunksOf(new TextOf("a  b   c"), 2), new TextOf(" +"), 0),
+            new IsEqual<>(
+                new IterableOf<>(new TextOf("a"), new TextOf("b"), new TextOf("c"))
+            )
+        ).affirm();
+    }
+
+    @Test
+    void splitLongPieceAcrossManyChunks() throws Exception {
+        final String piece = new Repeated("x", 10_000).asString();
+        new Assertion<>(
+            "Must keep a piece that spans many chunks",
+            new Split(
+                new ChunksOf(new TextOf(String.format("a,%s,b", piece)), 3),
+                new TextOf(","),
+                0
+            ),
+            new IsEqual<>(
+                new IterableOf<>(
+                    new TextOf("a"), new TextOf(piece), new TextOf("b")
+                )
+            )
+        ).affirm();
+    }
 }
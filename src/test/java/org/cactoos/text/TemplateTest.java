@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Template}.
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class TemplateTest {
+
+    @Test
+    void formatsArguments() {
+        new Assertion<>(
+            "Must replace placeholders with arguments",
+            new Template("{}. Formatted {}").format(1, "text"),
+            new IsEqual<>("1. Formatted text")
+        ).affirm();
+    }
+
+    @Test
+    void keepsEscapedPlaceholders() {
+        new Assertion<>(
+            "Must print escaped placeholders as they are",
+            new Template("\\{} is {}").format("placeholder"),
+            new IsEqual<>("{} is placeholder")
+        ).affirm();
+    }
+
+    @Test
+    void keepsPlaceholdersWithoutArguments() {
+        new Assertion<>(
+            "Must keep placeholders without arguments",
+            new Template("{} and {}").format((Object) null),
+            new IsEqual<>("null and {}")
+        ).affirm();
+    }
+
+    @Test
+    void rendersToSameBuilder() {
+        final Template tpl = new Template("<{}>");
+        final StringBuilder out = new StringBuilder(0);
+        tpl.render(out, 1);
+        new Assertion<>(
+            "Must append to the given builder",
+            tpl.render(out, 2).toString(),
+            new IsEqual<>("<1><2>")
+        ).affirm();
+    }
+}
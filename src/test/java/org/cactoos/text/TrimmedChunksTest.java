@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Yegor Bugayenko
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cactoos.text;
+
+import org.cactoos.iterable.IterableOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link TrimmedChunks}.
+ * @since 0.53
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class TrimmedChunksTest {
+
+    @Test
+    void trimsWholeText() {
+        new Assertion<>(
+            "Must trim only the ends of the whole text",
+            new Joined(
+                new TextOf(""),
+                new TrimmedChunks(new ChunksOf(new TextOf(" \t a  b \n "), 2))
+            ),
+            new IsEqual<>(new TextOf("a  b"))
+        ).affirm();
+    }
+
+    @Test
+    void dropsBlankChunks() {
+        new Assertion<>(
+            "Must drop the chunks that are blank",
+            new TrimmedChunks(
+                new IterableOf<>(
+                    new TextOf("  "),
+                    new TextOf(" x "),
+                    new TextOf("  ")
+                )
+            ),
+            new IsEqual<>(new IterableOf<>(new TextOf("x")))
+        ).affirm();
+    }
+}